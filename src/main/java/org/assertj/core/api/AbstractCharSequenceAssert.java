@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.assertj.core.api.xml.XmlNodeSetAssert;
+import org.assertj.core.api.xml.XmlStreamAssert;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Strings;
 import org.assertj.core.internal.Xmls;
@@ -656,4 +657,22 @@ public abstract class AbstractCharSequenceAssert<S extends AbstractCharSequenceA
     return new XmlNodeSetAssert(convertedActual);
   }
 
+  /**
+   * Converts a current assertion to {@link XmlStreamAssert}, to query an xml too big to be loaded in memory with a
+   * subset of xpath. Unlike {@link #asXml()} the xml is only parsed when a query is executed.
+   * 
+   * <p>
+   * Example:
+   * <pre>
+   *    assertThat(export).asXmlStream().extractingXPath(&quot;//movie[@year='1994']&quot;).hasSize(2);
+   * </pre>
+   * 
+   * @throws AssertionError if <code>actual</code> is {@code null}.
+   * @return converted xml stream assertion
+   */
+  public XmlStreamAssert asXmlStream() {
+    objects.assertNotNull(info, actual);
+    return new XmlStreamAssert(actual);
+  }
+
 }
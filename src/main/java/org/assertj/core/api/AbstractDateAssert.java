@@ -39,16 +39,25 @@ import org.assertj.core.util.VisibleForTesting;
 public abstract class AbstractDateAssert<S extends AbstractDateAssert<S>> extends AbstractAssert<S, Date> {
 
   /**
-   * the default DateFormat used to parse any String date representation.
+   * the default DateFormat used to parse any String date representation, each thread has its own since DateFormat is
+   * not thread safe.
    */
-  private static final DateFormat[] defaultDateFormats = {newIsoDateTimeWithMsFormat(), newIsoDateTimeFormat(),
-                                                           newIsoDateFormat()};
+  private static final ThreadLocal<DateFormat[]> defaultDateFormats = new ThreadLocal<DateFormat[]>() {
+    @Override
+    protected DateFormat[] initialValue() {
+      return new DateFormat[] { newIsoDateTimeWithMsFormat(), newIsoDateTimeFormat(), newIsoDateFormat() };
+    }
+  };
   /**
    * Used in String based Date assertions - like {@link #isAfter(String)} - to convert input date represented as string
    * to Date.<br> The format used can be overridden by invoking {@link #withDateFormat(DateFormat)}
    */
   @VisibleForTesting
-  static DateFormat customDateFormat = null;
+  static volatile DateFormat customDateFormat = null;
+  /**
+   * The copy of {@link #customDateFormat} used by the current thread, along with the format it was copied from.
+   */
+  private static final ThreadLocal<DateFormat[]> threadCustomDateFormat = new ThreadLocal<DateFormat[]>();
   @VisibleForTesting
   Dates dates = Dates.instance();
 
@@ -2158,31 +2167,40 @@ public abstract class AbstractDateAssert<S extends AbstractDateAssert<S>> extend
   @VisibleForTesting
   Date parse(String dateAsString) {
     if (dateAsString == null) return null;
-    // use synchronized block because SimpleDateFormat which is not thread safe (sigh).
     // parse with date format specified by user
-    if (customDateFormat != null) {
-      synchronized (customDateFormat) {
-        try {
-          return customDateFormat.parse(dateAsString);
-        } catch (ParseException e) {
-          throw new AssertionError("Failed to parse " + dateAsString + " with date format: "
-                                     + info.representation().toStringOf(customDateFormat));
-        }
+    DateFormat userDateFormat = customDateFormat;
+    if (userDateFormat != null) {
+      try {
+        return threadCopyOf(userDateFormat).parse(dateAsString);
+      } catch (ParseException e) {
+        throw new AssertionError("Failed to parse " + dateAsString + " with date format: "
+                                 + info.representation().toStringOf(userDateFormat));
       }
     }
     // user has not set any specific date format, let's try our defaults ones.
-    synchronized (defaultDateFormats) {
-      for (DateFormat defaultDateFormat : defaultDateFormats) {
-        try {
-          return defaultDateFormat.parse(dateAsString);
-        } catch (ParseException e) {
-          // ignore and try next date format
-        }
+    DateFormat[] dateFormats = defaultDateFormats.get();
+    for (DateFormat defaultDateFormat : dateFormats) {
+      try {
+        return defaultDateFormat.parse(dateAsString);
+      } catch (ParseException e) {
+        // ignore and try next date format
       }
-      // no suitable date format
-      throw new AssertionError("Failed to parse " + dateAsString + " with any of these date formats: "
-                                 + info.representation().toStringOf(defaultDateFormats));
     }
+    // no suitable date format
+    throw new AssertionError("Failed to parse " + dateAsString + " with any of these date formats: "
+                             + info.representation().toStringOf(dateFormats));
+  }
+
+  /**
+   * Returns the current thread copy of the given user date format, SimpleDateFormat being not thread safe (sigh).
+   */
+  private static DateFormat threadCopyOf(DateFormat userDateFormat) {
+    DateFormat[] threadDateFormat = threadCustomDateFormat.get();
+    if (threadDateFormat == null || threadDateFormat[0] != userDateFormat) {
+      threadDateFormat = new DateFormat[] { userDateFormat, (DateFormat) userDateFormat.clone() };
+      threadCustomDateFormat.set(threadDateFormat);
+    }
+    return threadDateFormat[1];
   }
 
   @Override
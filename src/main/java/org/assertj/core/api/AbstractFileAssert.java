@@ -17,6 +17,7 @@ package org.assertj.core.api;
 import java.io.File;
 import java.nio.charset.Charset;
 
+import org.assertj.core.api.xml.XmlStreamAssert;
 import org.assertj.core.internal.Files;
 import org.assertj.core.util.FilesException;
 import org.assertj.core.util.VisibleForTesting;
@@ -210,4 +211,21 @@ public abstract class AbstractFileAssert<S extends AbstractFileAssert<S>> extend
 		files.assertCanRead(info, actual);
 		return myself;
 	}
+
+	/**
+	 * Converts a current assertion to {@link XmlStreamAssert}, to query an xml file too big to be loaded in memory with
+	 * a subset of xpath. The file is read again each time a query is executed.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 *    assertThat(new File(&quot;export.xml&quot;)).asXmlStream().extractingXPath(&quot;//movie[@year='1994']&quot;).hasSize(2);
+	 * </pre>
+	 * @return converted xml stream assertion.
+	 * @throws AssertionError if the actual {@code File} is {@code null}.
+	 * @throws AssertionError if the actual {@code File} is not an existing file.
+	 */
+	public XmlStreamAssert asXmlStream() {
+		files.assertIsFile(info, actual);
+		return new XmlStreamAssert(actual);
+	}
 }
@@ -2,6 +2,7 @@ package org.assertj.core.api;
 
 import java.io.InputStream;
 
+import org.assertj.core.api.xml.XmlStreamAssert;
 import org.assertj.core.internal.InputStreams;
 import org.assertj.core.internal.InputStreamsException;
 import org.assertj.core.util.VisibleForTesting;
@@ -40,4 +41,20 @@ public abstract class AbstractInputStreamAssert<S extends AbstractInputStreamAss
 		inputStreams.assertEqualContent(info, actual, expected);
 		return myself;
 	}
+
+	/**
+	 * Converts a current assertion to {@link XmlStreamAssert}, to query an xml stream too big to be loaded in memory with
+	 * a subset of xpath. Since the stream is consumed by the first query, only one query can be executed.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 *    assertThat(exportStream).asXmlStream().extractingXPath(&quot;//movie[@year='1994']&quot;).hasSize(2);
+	 * </pre>
+	 * @return converted xml stream assertion.
+	 * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+	 */
+	public XmlStreamAssert asXmlStream() {
+		objects.assertNotNull(info, actual);
+		return new XmlStreamAssert(actual);
+	}
 }
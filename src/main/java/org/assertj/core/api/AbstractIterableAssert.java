@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.assertj.core.util.Iterables.toArray;
 
@@ -51,6 +52,8 @@ public abstract class AbstractIterableAssert<S extends AbstractIterableAssert<S,
 
   @VisibleForTesting
   Iterables iterables = Iterables.instance();
+  // set by usingParallelConditionEvaluation, null while conditions are evaluated sequentially
+  private ConditionEvaluator conditionEvaluator;
 
   protected AbstractIterableAssert(A actual, Class<?> selfType) {
     super(actual, selfType);
@@ -357,7 +360,7 @@ public abstract class AbstractIterableAssert<S extends AbstractIterableAssert<S,
    */
   @Override
   public S usingElementComparator(Comparator<? super T> customComparator) {
-    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(customComparator));
+    this.iterables = withConditionEvaluator(new Iterables(new ComparatorBasedComparisonStrategy(customComparator)));
     return myself;
   }
 
@@ -366,10 +369,54 @@ public abstract class AbstractIterableAssert<S extends AbstractIterableAssert<S,
    */
   @Override
   public S usingDefaultElementComparator() {
-    this.iterables = Iterables.instance();
+    this.iterables = withConditionEvaluator(Iterables.instance());
     return myself;
   }
 
+  /**
+   * Evaluates the conditions of the following {@code are}, {@code areNot}, {@code have}, {@code doNotHave} and counting
+   * assertions (e.g. {@code areAtLeast}) concurrently, with a shared executor using as many daemon threads as there
+   * are available processors.
+   * <p>
+   * This is only worth it for expensive conditions, elements are split in chunks evaluated by different threads and
+   * merged in iteration order, assertions pass or fail with the same error messages as when conditions are evaluated one
+   * element after the other. Conditions must therefore be thread safe.
+   * <p>
+   * Example :
+   * 
+   * <pre>
+   * // validSignature is a Condition checking the signature of each payload, evaluated in parallel
+   * assertThat(signedPayloads).usingParallelConditionEvaluation().are(validSignature);
+   * </pre>
+   * 
+   * @return {@code this} assertion object.
+   */
+  public S usingParallelConditionEvaluation() {
+    return usingConditionEvaluator(new ParallelConditionEvaluator());
+  }
+
+  /**
+   * Same as {@link #usingParallelConditionEvaluation()} but evaluating conditions with the given executor.
+   * 
+   * @param executor the executor evaluating conditions.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given executor is {@code null}.
+   */
+  public S usingParallelConditionEvaluation(ExecutorService executor) {
+    return usingConditionEvaluator(new ParallelConditionEvaluator(executor));
+  }
+
+  private S usingConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+    this.conditionEvaluator = conditionEvaluator;
+    this.iterables = iterables.withConditionEvaluator(conditionEvaluator);
+    return myself;
+  }
+
+  private Iterables withConditionEvaluator(Iterables iterables) {
+    // keep evaluating conditions in parallel when the element comparison changes
+    return conditionEvaluator == null ? iterables : iterables.withConditionEvaluator(conditionEvaluator);
+  }
+
   /**
    * Extract the values of given field or property from the Iterable's elements under test into a new Iterable, this
    * new
@@ -728,7 +775,7 @@ public abstract class AbstractIterableAssert<S extends AbstractIterableAssert<S,
   }
 
   protected S usingComparisonStrategy(ComparisonStrategy comparisonStrategy) {
-    iterables = new Iterables(comparisonStrategy);
+    iterables = withConditionEvaluator(new Iterables(comparisonStrategy));
     return myself;
   }
     /**
@@ -15,13 +15,16 @@
 package org.assertj.core.api;
 
 import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
 
 import org.assertj.core.data.Index;
 import org.assertj.core.groups.FieldsOrPropertiesExtractor;
 import org.assertj.core.groups.MethodInvocationResultExtractor;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ConditionEvaluator;
 import org.assertj.core.internal.ObjectArrays;
+import org.assertj.core.internal.ParallelConditionEvaluator;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
 
@@ -47,6 +50,8 @@ public abstract class AbstractObjectArrayAssert<S extends AbstractObjectArrayAss
 
   @VisibleForTesting
   ObjectArrays arrays = ObjectArrays.instance();
+  // set by usingParallelConditionEvaluation, null while conditions are evaluated sequentially
+  private ConditionEvaluator conditionEvaluator;
 
   protected AbstractObjectArrayAssert(T[] actual, Class<?> selfType) {
     super(actual, selfType);
@@ -299,16 +304,60 @@ public abstract class AbstractObjectArrayAssert<S extends AbstractObjectArrayAss
 
   @Override
   public S usingElementComparator(Comparator<? super T> customComparator) {
-    this.arrays = new ObjectArrays(new ComparatorBasedComparisonStrategy(customComparator));
+    this.arrays = withConditionEvaluator(new ObjectArrays(new ComparatorBasedComparisonStrategy(customComparator)));
     return myself;
   }
 
   @Override
   public S usingDefaultElementComparator() {
-    this.arrays = ObjectArrays.instance();
+    this.arrays = withConditionEvaluator(ObjectArrays.instance());
     return myself;
   }
 
+  /**
+   * Evaluates the conditions of the following {@code are}, {@code areNot}, {@code have}, {@code doNotHave} and counting
+   * assertions (e.g. {@code areAtLeast}) concurrently, with a shared executor using as many daemon threads as there
+   * are available processors.
+   * <p>
+   * This is only worth it for expensive conditions, elements are split in chunks evaluated by different threads and
+   * merged in array order, assertions pass or fail with the same error messages as when conditions are evaluated one
+   * element after the other. Conditions must therefore be thread safe.
+   * <p>
+   * Example :
+   * 
+   * <pre>
+   * // validSignature is a Condition checking the signature of each payload, evaluated in parallel
+   * assertThat(signedPayloadsArray).usingParallelConditionEvaluation().are(validSignature);
+   * </pre>
+   * 
+   * @return {@code this} assertion object.
+   */
+  public S usingParallelConditionEvaluation() {
+    return usingConditionEvaluator(new ParallelConditionEvaluator());
+  }
+
+  /**
+   * Same as {@link #usingParallelConditionEvaluation()} but evaluating conditions with the given executor.
+   * 
+   * @param executor the executor evaluating conditions.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given executor is {@code null}.
+   */
+  public S usingParallelConditionEvaluation(ExecutorService executor) {
+    return usingConditionEvaluator(new ParallelConditionEvaluator(executor));
+  }
+
+  private S usingConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+    this.conditionEvaluator = conditionEvaluator;
+    this.arrays = arrays.withConditionEvaluator(conditionEvaluator);
+    return myself;
+  }
+
+  private ObjectArrays withConditionEvaluator(ObjectArrays arrays) {
+    // keep evaluating conditions in parallel when the element comparison changes
+    return conditionEvaluator == null ? arrays : arrays.withConditionEvaluator(conditionEvaluator);
+  }
+
   /**
    * Extract the values of given field or property from the array's elements under test into a new array, this new array
    * becoming the array under test.
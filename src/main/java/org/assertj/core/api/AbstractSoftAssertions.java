@@ -1,31 +1,98 @@
 package org.assertj.core.api;
 
-import static org.assertj.core.util.Arrays.array;
-
 import java.io.File;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
 
 public abstract class AbstractSoftAssertions {
 
+  // one proxy class per assert class, so that proxies are created without looking up the generated class again; assert
+  // classes are weakly referenced and proxy classes (subclasses of them) softly referenced so that the cache does not
+  // prevent custom assert classes and their class loaders from being garbage collected
+  private static final Map<Class<?>, Reference<ProxyClass>> PROXY_CLASSES
+    = new WeakHashMap<Class<?>, Reference<ProxyClass>>();
+
   final ErrorCollector collector;
+  private final Callback[] callbacks;
 
   protected AbstractSoftAssertions() {
-    this.collector = new ErrorCollector();
+    this(new ErrorCollector());
+  }
+
+  AbstractSoftAssertions(ErrorCollector collector) {
+    this.collector = collector;
+    this.callbacks = new Callback[] { collector };
   }
 
   @SuppressWarnings("unchecked")
   protected <T, V> V proxy(Class<V> assertClass, Class<T> actualClass, T actual) {
+    ProxyClass proxyClass = proxyClass(assertClass);
+    // callbacks are registered for the current thread only, while the proxy is created
+    Enhancer.registerCallbacks(proxyClass.type, callbacks);
+    try {
+      return (V) proxyClass.constructorFor(actualClass).newInstance(actual);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException("Unable to create soft assertion for " + assertClass.getName(), cause);
+    } catch (Exception e) {
+      throw new IllegalStateException("Unable to create soft assertion for " + assertClass.getName(), e);
+    } finally {
+      Enhancer.registerCallbacks(proxyClass.type, null);
+    }
+  }
+
+  private static ProxyClass proxyClass(Class<?> assertClass) {
+    synchronized (PROXY_CLASSES) {
+      Reference<ProxyClass> cached = PROXY_CLASSES.get(assertClass);
+      ProxyClass proxyClass = cached == null ? null : cached.get();
+      if (proxyClass != null) return proxyClass;
+    }
+    // the class is generated without creating an instance, assert constructors may not accept any actual value
     Enhancer enhancer = new Enhancer();
     enhancer.setSuperclass(assertClass);
-    enhancer.setCallback(collector);
-    return (V) enhancer.create(array(actualClass), array(actual));
+    enhancer.setCallbackType(ErrorCollector.class);
+    ProxyClass proxyClass = new ProxyClass(enhancer.createClass());
+    synchronized (PROXY_CLASSES) {
+      PROXY_CLASSES.put(assertClass, new SoftReference<ProxyClass>(proxyClass));
+    }
+    return proxyClass;
+  }
+
+  private static class ProxyClass {
+
+    private final Class<?> type;
+    // constructors by type of actual value
+    private final ConcurrentMap<Class<?>, Constructor<?>> constructors =
+        new ConcurrentHashMap<Class<?>, Constructor<?>>();
+
+    ProxyClass(Class<?> type) {
+      this.type = type;
+    }
+
+    Constructor<?> constructorFor(Class<?> actualClass) throws NoSuchMethodException {
+      Constructor<?> constructor = constructors.get(actualClass);
+      if (constructor == null) {
+        constructor = type.getConstructor(actualClass);
+        constructors.put(actualClass, constructor);
+      }
+      return constructor;
+    }
   }
 
   /**
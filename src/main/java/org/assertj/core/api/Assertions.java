@@ -32,8 +32,11 @@ import org.assertj.core.condition.Not;
 import org.assertj.core.data.Index;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.data.Offset;
+import org.assertj.core.error.ComparisonFailureFactory;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.Dates;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.FilesException;
@@ -563,6 +566,30 @@ public class Assertions {
     FieldSupport.setAllowExtractingPrivateFields(allowExtractingPrivateFields);
   }
 
+  /**
+   * Globally set the factory creating the error reported when two objects are not equal, for example to create the
+   * comparison failure of another test framework than JUnit, whose <code>org.junit.ComparisonFailure</code> is created
+   * when it is in the classpath.
+   *
+   * @param comparisonFailureFactory the factory to use, {@code null} to create JUnit's {@code ComparisonFailure}.
+   */
+  public static void setComparisonFailureFactory(ComparisonFailureFactory comparisonFailureFactory) {
+    Failures.instance().setComparisonFailureFactory(comparisonFailureFactory);
+  }
+
+  /**
+   * Globally set the maximum number of line differences reported when file or input stream contents are compared, for
+   * example by <code>{@link AbstractFileAssert#hasContent(String)}</code> or
+   * <code>{@link AbstractInputStreamAssert#hasContentEqualTo(java.io.InputStream)}</code>, the other differences are
+   * only counted.
+   *
+   * @param maxDifferences the maximum number of reported differences. Default 100.
+   * @throws IllegalArgumentException if the given number is not positive.
+   */
+  public static void setMaxReportedContentDifferences(int maxDifferences) {
+    Diff.setMaxReportedDifferences(maxDifferences);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // Data utility methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -0,0 +1,95 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Collections.sort;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ErrorCollector} that proxied assertions can use from several threads at once.
+ * <p>
+ * Each thread records its errors in its own buffer, successful assertions do not touch any shared state. Errors are
+ * numbered from a global sequence so that {@link #errors()} merges the buffers in the order errors occurred.
+ */
+class ConcurrentErrorCollector extends ErrorCollector {
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final Queue<ThreadErrors> allThreadErrors = new ConcurrentLinkedQueue<ThreadErrors>();
+  private final ThreadLocal<ThreadErrors> threadErrors = new ThreadLocal<ThreadErrors>() {
+    @Override
+    protected ThreadErrors initialValue() {
+      ThreadErrors errors = new ThreadErrors();
+      allThreadErrors.add(errors);
+      return errors;
+    }
+  };
+
+  @Override
+  void collect(AssertionError error) {
+    threadErrors.get().add(new SequencedError(sequence.getAndIncrement(), error));
+  }
+
+  @Override
+  public List<Throwable> errors() {
+    List<SequencedError> sequencedErrors = new ArrayList<SequencedError>();
+    for (ThreadErrors errors : allThreadErrors) {
+      errors.copyTo(sequencedErrors);
+    }
+    sort(sequencedErrors);
+    List<Throwable> errors = new ArrayList<Throwable>(sequencedErrors.size());
+    for (SequencedError sequencedError : sequencedErrors) {
+      errors.add(sequencedError.error);
+    }
+    return unmodifiableList(errors);
+  }
+
+  /**
+   * Errors of one thread, only locked by this thread and by {@link ConcurrentErrorCollector#errors()}.
+   */
+  private static class ThreadErrors {
+
+    private final List<SequencedError> errors = new ArrayList<SequencedError>();
+
+    synchronized void add(SequencedError error) {
+      errors.add(error);
+    }
+
+    synchronized void copyTo(List<SequencedError> allErrors) {
+      allErrors.addAll(errors);
+    }
+  }
+
+  private static class SequencedError implements Comparable<SequencedError> {
+
+    private final long sequence;
+    private final Throwable error;
+
+    SequencedError(long sequence, Throwable error) {
+      this.sequence = sequence;
+      this.error = error;
+    }
+
+    @Override
+    public int compareTo(SequencedError other) {
+      return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+    }
+  }
+}
@@ -20,11 +20,17 @@ public class ErrorCollector implements MethodInterceptor {
     try {
       proxy.invokeSuper(obj, args);
     } catch (AssertionError e) {
-      errors.add(e);
+      // failure messages are built lazily, build it now so that it shows the values as they were when it failed
+      e.getMessage();
+      collect(e);
     }
     return obj;
   }
 
+  void collect(AssertionError error) {
+    errors.add(error);
+  }
+
   public List<Throwable> errors() {
     return Collections.unmodifiableList(errors);
   }
@@ -115,6 +115,11 @@ import java.util.List;
  * easily distinguished from one another.
  * </p>
  * 
+ * <p>
+ * A SoftAssertions instance is meant to be used by a single thread, use {@link #concurrentSoftAssertions()} to get one
+ * that can be shared by the threads of a concurrent test.
+ * </p>
+ * 
  * @author Brian Laframboise
  * 
  * @see http://beust.com/weblog/2012/07/29/reinventing-assertions/ for the inspiration
@@ -128,6 +133,20 @@ public class SoftAssertions extends AbstractSoftAssertions {
         super();
     }
 
+  SoftAssertions(ErrorCollector collector) {
+    super(collector);
+  }
+
+  /**
+   * Creates a new {@link SoftAssertions} that several threads can use at the same time, {@link #assertAll()} reports the
+   * errors of all threads in the order they occurred.
+   * 
+   * @return a new {@link SoftAssertions} that can be shared between threads.
+   */
+  public static SoftAssertions concurrentSoftAssertions() {
+    return new SoftAssertions(new ConcurrentErrorCollector());
+  }
+
   /**
    * Verifies that no proxied assertion methods have failed.
    *
@@ -14,15 +14,23 @@
  */
 package org.assertj.core.api.filter;
 
+import static java.util.Arrays.asList;
+import static org.assertj.core.internal.ElementIndex.newIndex;
+import static org.assertj.core.internal.PropertyPath.propertyPath;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Objects.areEqual;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.Condition;
-import org.assertj.core.internal.PropertySupport;
+import org.assertj.core.internal.ElementIndex;
+import org.assertj.core.internal.PropertyPath;
+import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
 
@@ -34,6 +42,10 @@ import org.assertj.core.util.introspection.IntrospectionError;
  * <p>
  * Note that the given {@link Iterable} or array is not modified, the filters are performed on a copy.
  * <p>
+ * Filter criteria are only recorded when expressed, they are applied in a single pass over the elements when calling
+ * {@link #get()}, the cheapest ones (on element properties) first. Elements properties are nonetheless checked to exist
+ * when the criteria are expressed.
+ * <p>
  * With {@link Condition} :
  * 
  * <pre>
@@ -66,14 +78,21 @@ public class Filters<E> {
   // initialIterable is never modified, it represents the group before any filters have been performed
   @VisibleForTesting
   final Iterable<E> initialIterable;
+  // the result of the filter criteria, null until get() applies the criteria expressed since last call
   Iterable<E> filteredIterable;
 
-  private final PropertySupport propertySupport = PropertySupport.instance();
+  // copy of initialIterable the criteria are applied to
+  private final List<E> elements;
+  // the first index of each class of non null elements, used to check that filtered properties exist
+  private Map<Class<?>, Integer> firstIndexOfElementClasses;
+
+  private final List<Criterion> criteria = new ArrayList<Criterion>();
 
   /**
    * The name of the property used for filtering.
    */
   private String propertyNameToFilterOn;
+  private PropertyPath propertyPathToFilterOn;
 
   /**
    * Creates a new <code>{@link Filters}</code> with the {@link Iterable} to filter.
@@ -154,7 +173,7 @@ public class Filters<E> {
   Filters(Iterable<E> iterable) {
     this.initialIterable = iterable;
     // copy list to avoid modifying iterable
-    this.filteredIterable = newArrayList(iterable);
+    this.elements = newArrayList(iterable);
   }
 
   @VisibleForTesting
@@ -162,8 +181,7 @@ public class Filters<E> {
     List<E> iterable = new ArrayList<E>(array.length);
     Collections.addAll(iterable, array);
     this.initialIterable = iterable;
-    // copy list to avoid modifying iterable
-    this.filteredIterable = newArrayList(iterable);
+    this.elements = iterable;
   }
 
   /**
@@ -217,14 +235,7 @@ public class Filters<E> {
   }
 
   private Filters<E> applyFilterCondition(Condition<? super E> condition) {
-    List<E> newFilteredIterable = new ArrayList<E>();
-    for (E element : filteredIterable) {
-      if (condition.matches(element)) {
-        newFilteredIterable.add(element);
-      }
-    }
-    this.filteredIterable = newFilteredIterable;
-    return this;
+    return addCriterion(new ConditionCriterion(condition));
   }
 
   /**
@@ -249,7 +260,7 @@ public class Filters<E> {
    */
   public Filters<E> with(String propertyName, Object propertyValue) {
     if (propertyName == null) throw new NullPointerException("The property name to filter on should not be null");
-    propertyNameToFilterOn = propertyName;
+    setPropertyNameToFilterOn(propertyName);
     return equalsTo(propertyValue);
   }
 
@@ -268,10 +279,15 @@ public class Filters<E> {
    */
   public Filters<E> with(String propertyName) {
     if (propertyName == null) throw new NullPointerException("The property name to filter on should not be null");
-    propertyNameToFilterOn = propertyName;
+    setPropertyNameToFilterOn(propertyName);
     return this;
   }
 
+  private void setPropertyNameToFilterOn(String propertyName) {
+    propertyNameToFilterOn = propertyName;
+    propertyPathToFilterOn = propertyPath(propertyName);
+  }
+
   /**
    * Alias of {@link #with(String)} for synthetic sugar to write things like :.
    * 
@@ -301,19 +317,16 @@ public class Filters<E> {
    * @return this {@link Filters} to chain other filter operation.
    * @throws NullPointerException if the property name to filter on has not been set.
    */
-  public Filters<E> equalsTo(Object propertyValue) {
+  public Filters<E> equalsTo(final Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    List<E> newFilteredIterable = new ArrayList<E>();
-    for (E element : filteredIterable) {
-      // As we don't know the propertyValue class, we use Object.class
-      Class<?> propertyValueClass = propertyValue == null ? Object.class : propertyValue.getClass();
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValueClass, element);
-      if (areEqual(propertyValueOfCurrentElement, propertyValue)) {
-        newFilteredIterable.add(element);
+    // As we don't know the propertyValue class, we use Object.class
+    Class<?> propertyValueClass = propertyValue == null ? Object.class : propertyValue.getClass();
+    return addCriterion(new PropertyCriterion(propertyValueClass) {
+      @Override
+      boolean accepts(Object propertyValueOfElement) {
+        return areEqual(propertyValueOfElement, propertyValue);
       }
-    }
-    this.filteredIterable = newFilteredIterable;
-    return this;
+    });
   }
 
   /**
@@ -330,18 +343,15 @@ public class Filters<E> {
    * @return this {@link Filters} to chain other filter operation.
    * @throws NullPointerException if the property name to filter on has not been set.
    */
-  public Filters<E> notEqualsTo(Object propertyValue) {
+  public Filters<E> notEqualsTo(final Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    List<E> newFilteredIterable = new ArrayList<E>();
-    for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValue.getClass(),
-          element);
-      if (!areEqual(propertyValueOfCurrentElement, propertyValue)) {
-        newFilteredIterable.add(element);
+    Class<?> propertyValueClass = propertyValue == null ? Object.class : propertyValue.getClass();
+    return addCriterion(new PropertyCriterion(propertyValueClass) {
+      @Override
+      boolean accepts(Object propertyValueOfElement) {
+        return !areEqual(propertyValueOfElement, propertyValue);
       }
-    }
-    this.filteredIterable = newFilteredIterable;
-    return this;
+    });
   }
 
   private void checkPropertyNameToFilterOnIsNotNull() {
@@ -363,18 +373,15 @@ public class Filters<E> {
    * @return this {@link Filters} to chain other filter operation.
    * @throws NullPointerException if the property name to filter on has not been set.
    */
-  public Filters<E> in(Object... propertyValues) {
+  public Filters<E> in(final Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    List<E> newFilteredIterable = new ArrayList<E>();
-    for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValues.getClass()
-          .getComponentType(), element);
-      if (isItemInArray(propertyValueOfCurrentElement, propertyValues)) {
-        newFilteredIterable.add(element);
+    final ElementIndex propertyValuesIndex = indexOf(propertyValues);
+    return addCriterion(new PropertyCriterion(propertyValues.getClass().getComponentType()) {
+      @Override
+      boolean accepts(Object propertyValueOfElement) {
+        return propertyValuesIndex.contains(propertyValueOfElement);
       }
-    }
-    this.filteredIterable = newFilteredIterable;
-    return this;
+    });
   }
 
   /**
@@ -391,30 +398,22 @@ public class Filters<E> {
    * @return this {@link Filters} to chain other filter operation.
    * @throws NullPointerException if the property name to filter on has not been set.
    */
-  public Filters<E> notIn(Object... propertyValues) {
+  public Filters<E> notIn(final Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    List<E> newFilteredIterable = new ArrayList<E>();
-    for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValues.getClass()
-          .getComponentType(), element);
-      if (!isItemInArray(propertyValueOfCurrentElement, propertyValues)) {
-        newFilteredIterable.add(element);
+    final ElementIndex propertyValuesIndex = indexOf(propertyValues);
+    return addCriterion(new PropertyCriterion(propertyValues.getClass().getComponentType()) {
+      @Override
+      boolean accepts(Object propertyValueOfElement) {
+        return !propertyValuesIndex.contains(propertyValueOfElement);
       }
-    }
-    this.filteredIterable = newFilteredIterable;
-    return this;
+    });
   }
 
   /**
-   * Returns <code>true</code> if given item is in given array, <code>false</code> otherwise.
-   * @param item the object to look for in arrayOfValues
-   * @param arrayOfValues the array of values
-   * @return <code>true</code> if given item is in given array, <code>false</code> otherwise.
+   * Indexes the given values once so that looking up the property value of each element does not scan them.
    */
-  private static boolean isItemInArray(Object item, Object[] arrayOfValues) {
-    for (Object value : arrayOfValues)
-      if (areEqual(value, item)) return true;
-    return false;
+  private static ElementIndex indexOf(Object[] propertyValues) {
+    return newIndex(StandardComparisonStrategy.instance(), asList(propertyValues));
   }
 
   /**
@@ -422,7 +421,157 @@ public class Filters<E> {
    * @return the Iterable&lt;E&gt; containing the filtered elements.
    */
   public Iterable<E> get() {
+    if (filteredIterable == null) filteredIterable = applyCriteria();
     return filteredIterable;
   }
 
+  private Filters<E> addCriterion(Criterion criterion) {
+    if (criterion instanceof Filters.PropertyCriterion) checkPropertyIsReadable((PropertyCriterion) criterion);
+    criteria.add(criterion);
+    filteredIterable = null;
+    return this;
+  }
+
+  /**
+   * Reads the filtered property from an element of each class, so that a missing property is reported when the
+   * criterion is expressed, as it was when each criterion was applied right away. Elements discarded by previous
+   * property criteria are only looked for when reading the first element of a class fails; if conditions were expressed
+   * before, they are not evaluated here and {@link #get()} reports the missing property instead.
+   */
+  private void checkPropertyIsReadable(PropertyCriterion criterion) {
+    for (Map.Entry<Class<?>, Integer> firstIndexOfElementClass : firstIndexOfElementClasses().entrySet()) {
+      int firstIndex = firstIndexOfElementClass.getValue();
+      try {
+        criterion.propertyValueOf(elements.get(firstIndex));
+      } catch (IntrospectionError e) {
+        if (hasConditionCriterion()) return;
+        E element = firstRemainingElement(firstIndexOfElementClass.getKey(), firstIndex);
+        if (element != null) criterion.propertyValueOf(element);
+      }
+    }
+  }
+
+  private boolean hasConditionCriterion() {
+    for (Criterion criterion : criteria) {
+      if (criterion instanceof Filters.ConditionCriterion) return true;
+    }
+    return false;
+  }
+
+  private Map<Class<?>, Integer> firstIndexOfElementClasses() {
+    if (firstIndexOfElementClasses == null) {
+      firstIndexOfElementClasses = new LinkedHashMap<Class<?>, Integer>();
+      for (int i = 0; i < elements.size(); i++) {
+        E element = elements.get(i);
+        if (element != null && !firstIndexOfElementClasses.containsKey(element.getClass())) {
+          firstIndexOfElementClasses.put(element.getClass(), i);
+        }
+      }
+    }
+    return firstIndexOfElementClasses;
+  }
+
+  private E firstRemainingElement(Class<?> elementClass, int firstIndex) {
+    for (int i = firstIndex; i < elements.size(); i++) {
+      E element = elements.get(i);
+      if (element != null && element.getClass() == elementClass && matchesInExpressionOrder(element)) return element;
+    }
+    return null;
+  }
+
+  private List<E> applyCriteria() {
+    List<Criterion> cheapestCriteriaFirst = new ArrayList<Criterion>(criteria);
+    // stable sort, criteria of same cost are evaluated in the order they were expressed
+    Collections.sort(cheapestCriteriaFirst, CHEAPEST_FIRST);
+    List<E> newFilteredIterable = new ArrayList<E>();
+    for (E element : elements) {
+      if (matches(element, cheapestCriteriaFirst)) newFilteredIterable.add(element);
+    }
+    return newFilteredIterable;
+  }
+
+  private boolean matches(E element, List<Criterion> cheapestCriteriaFirst) {
+    for (Criterion criterion : cheapestCriteriaFirst) {
+      try {
+        if (!criterion.matches(element)) return false;
+      } catch (IntrospectionError e) {
+        if (!(criterion instanceof Filters.PropertyCriterion)) throw e;
+        // a criterion expressed before the unreadable property may discard the element, in which case it is not read;
+        // property criteria are evaluated first, so no condition has been evaluated on the element yet
+        return matchesInExpressionOrder(element);
+      }
+    }
+    return true;
+  }
+
+  private boolean matchesInExpressionOrder(E element) {
+    for (Criterion criterion : criteria) {
+      if (!criterion.matches(element)) return false;
+    }
+    return true;
+  }
+
+  private static final Comparator<Filters<?>.Criterion> CHEAPEST_FIRST = new Comparator<Filters<?>.Criterion>() {
+    @Override
+    public int compare(Filters<?>.Criterion criterion, Filters<?>.Criterion otherCriterion) {
+      return criterion.cost() - otherCriterion.cost();
+    }
+  };
+
+  private abstract class Criterion {
+
+    abstract boolean matches(E element);
+
+    /**
+     * Relative cost of evaluating this criterion on one element.
+     */
+    abstract int cost();
+  }
+
+  private class ConditionCriterion extends Criterion {
+
+    private final Condition<? super E> condition;
+
+    ConditionCriterion(Condition<? super E> condition) {
+      this.condition = condition;
+    }
+
+    @Override
+    boolean matches(E element) {
+      return condition.matches(element);
+    }
+
+    @Override
+    int cost() {
+      // conditions can run arbitrary code, evaluate them last
+      return 1;
+    }
+  }
+
+  private abstract class PropertyCriterion extends Criterion {
+
+    private final PropertyPath propertyPath = propertyPathToFilterOn;
+    private final Class<?> propertyValueClass;
+
+    PropertyCriterion(Class<?> propertyValueClass) {
+      this.propertyValueClass = propertyValueClass;
+    }
+
+    Object propertyValueOf(E element) {
+      return propertyPath.valueOf(propertyValueClass, element);
+    }
+
+    @Override
+    boolean matches(E element) {
+      return accepts(propertyValueOf(element));
+    }
+
+    abstract boolean accepts(Object propertyValueOfElement);
+
+    @Override
+    int cost() {
+      return 0;
+    }
+  }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.api.xml;
+
+import java.io.File;
+import java.io.InputStream;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractCharSequenceAssert;
+import org.assertj.core.api.AbstractFileAssert;
+import org.assertj.core.api.AbstractInputStreamAssert;
+import org.assertj.core.internal.Xmls;
+import org.assertj.core.util.xml.XPathStreamExtractor;
+
+/**
+ * Assertion methods for xml documents too big to be loaded in memory.
+ * <p>
+ * Unlike {@link XmlNodeSetAssert} the xml is never parsed as a whole: it is streamed each time
+ * {@link #extractingXPath(String)} is called and only the selected nodes are kept, these nodes can then be checked
+ * with the {@link XmlNodeSetAssert} assertions.
+ * </p>
+ * <p>
+ * To create an instance of this class, invoke {@link AbstractFileAssert#asXmlStream()},
+ * {@link AbstractInputStreamAssert#asXmlStream()} or {@link AbstractCharSequenceAssert#asXmlStream()}.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ *    XmlStreamAssert export = assertThat(new File(&quot;export.xml&quot;)).asXmlStream();
+ *    export.extractingXPath(&quot;/movies/movie[@year='1994']&quot;).hasSize(2);
+ *    export.extractingXPath(&quot;//movie[@title='Fight Club']/@year&quot;).isEqualTo(&quot;@year='1999'&quot;);
+ *    export.extractingXPath(&quot;/movies/movie/director/text()&quot;).contains(&quot;Quentin Tarantino&quot;);
+ * </pre>
+ * </p>
+ * <p>
+ * Only a subset of xpath is supported, see {@link XPathStreamExtractor}.
+ * </p>
+ */
+public class XmlStreamAssert extends AbstractAssert<XmlStreamAssert, XPathStreamExtractor> {
+
+  private Xmls xmls = Xmls.instance();
+
+  /**
+   * Creates a new assertion on the given xml file, read again each time a query is executed.
+   * 
+   * @param actual the xml file under test.
+   */
+  public XmlStreamAssert(File actual) {
+    this(new XPathStreamExtractor(actual));
+  }
+
+  /**
+   * Creates a new assertion on the given xml stream. Since the stream is consumed by the first query,
+   * {@link #extractingXPath(String)} can only be called once.
+   * 
+   * @param actual the xml stream under test.
+   */
+  public XmlStreamAssert(InputStream actual) {
+    this(new XPathStreamExtractor(actual));
+  }
+
+  /**
+   * Creates a new assertion on the given xml.
+   * 
+   * @param actual the xml under test.
+   */
+  public XmlStreamAssert(CharSequence actual) {
+    this(new XPathStreamExtractor(actual));
+  }
+
+  private XmlStreamAssert(XPathStreamExtractor actual) {
+    super(actual, XmlStreamAssert.class);
+  }
+
+  /**
+   * Streams the xml under test and extracts the result of the given xpath query into a new xml node set, see
+   * {@link XmlNodeSetAssert#extractingXPath(String)}.
+   * 
+   * @param xpath query expression to execute on the xml under test.
+   * @throws IllegalArgumentException if given <code>xpath</code> argument is not a supported xpath expression.
+   * @throws AssertionError if the xml under test is not well formed.
+   * @return new xml node set assertion based on result of xpath query.
+   */
+  public XmlNodeSetAssert extractingXPath(String xpath) {
+    return new XmlNodeSetAssert(xmls.assertXPathOnStream(info, actual, xpath));
+  }
+}
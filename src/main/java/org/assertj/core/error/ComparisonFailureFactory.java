@@ -0,0 +1,35 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+/**
+ * Creates the error reported when two objects are not equal, usually a comparison failure of a test framework that IDEs
+ * know how to display side by side.
+ * <p>
+ * By default JUnit's <code>org.junit.ComparisonFailure</code> is created when JUnit is in the classpath, use
+ * {@link org.assertj.core.api.Assertions#setComparisonFailureFactory(ComparisonFailureFactory)} to create another kind of error.
+ */
+public interface ComparisonFailureFactory {
+
+  /**
+   * Creates an {@link AssertionError} indicating that the actual value is not equal to the expected one.
+   * 
+   * @param message the description of the failed assertion, may be empty.
+   * @param expected the {@code String} representation of the expected value.
+   * @param actual the {@code String} representation of the actual value.
+   * @return the created {@code AssertionError}, or {@code null} to fall back to AssertJ's own error message.
+   */
+  AssertionError newComparisonFailure(String message, String expected, String actual);
+}
@@ -14,33 +14,64 @@
  */
 package org.assertj.core.error;
 
+import static java.util.Arrays.asList;
+
 import java.lang.reflect.*;
 import java.security.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once per class and parameter types, the outcome is kept even when the class is not in the
+ * classpath so that it is not searched again.
  * 
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 class ConstructorInvoker {
 
+  private static final Object CLASS_NOT_FOUND = new Object();
+  private static final ConcurrentMap<List<Object>, Object> CONSTRUCTORS = new ConcurrentHashMap<List<Object>, Object>();
+
+  /**
+   * Creates a new instance of the given class with the constructor having the given parameter types.
+   * 
+   * @return the created instance, or {@code null} if the given class is not in the classpath.
+   * @throws Exception if the constructor does not exist or fails.
+   */
   Object newInstance(String className, Class<?>[] parameterTypes, Object[] parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    boolean accessible = constructor.isAccessible();
+    Object constructor = constructor(className, parameterTypes);
+    if (constructor == CLASS_NOT_FOUND) return null;
+    return ((Constructor<?>) constructor).newInstance(parameterValues);
+  }
+
+  private Object constructor(String className, Class<?>[] parameterTypes) throws NoSuchMethodException {
+    List<Object> key = new ArrayList<Object>(parameterTypes.length + 1);
+    key.add(className);
+    key.addAll(asList(parameterTypes));
+    Object constructor = CONSTRUCTORS.get(key);
+    if (constructor != null) return constructor;
     try {
-      setAccessible(constructor, true);
-      return constructor.newInstance(parameterValues);
-    } finally {
-      try {
-        setAccessible(constructor, accessible);
-      } catch (RuntimeException e) {}
+      Constructor<?> found = Class.forName(className).getConstructor(parameterTypes);
+      setAccessible(found);
+      constructor = found;
+    } catch (ClassNotFoundException e) {
+      constructor = CLASS_NOT_FOUND;
     }
+    Object existing = CONSTRUCTORS.putIfAbsent(key, constructor);
+    return existing == null ? constructor : existing;
   }
 
-  private void setAccessible(AccessibleObject accessible, boolean value) {
-    AccessController.doPrivileged(new SetAccessibleValueAction(accessible, value));
+  private void setAccessible(AccessibleObject accessible) {
+    try {
+      AccessController.doPrivileged(new SetAccessibleValueAction(accessible, true));
+    } catch (RuntimeException e) {
+      // public constructors of public classes can still be called
+    }
   }
 
   private static class SetAccessibleValueAction implements PrivilegedAction<Void> {
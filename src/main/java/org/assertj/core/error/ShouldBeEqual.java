@@ -46,6 +46,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   private static final String EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR = "\nExpecting:\n <%s>\nto be equal to:\n " +
                                                                             "<%s>\n%s but was not.";
   private static final Class<?>[] MSG_ARG_TYPES = new Class<?>[]{String.class, String.class, String.class};
+  private static final String JUNIT_COMPARISON_FAILURE = "org.junit.ComparisonFailure";
   protected final Object actual;
   protected final Object expected;
   @VisibleForTesting
@@ -184,7 +185,12 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   }
 
   private AssertionError newComparisonFailure(String description) throws Exception {
-    Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure", MSG_ARG_TYPES, msgArgs(description));
+    ComparisonFailureFactory factory = Failures.instance().comparisonFailureFactory();
+    if (factory != null) {
+      return factory.newComparisonFailure(description, representation.toStringOf(expected),
+                                          representation.toStringOf(actual));
+    }
+    Object o = constructorInvoker.newInstance(JUNIT_COMPARISON_FAILURE, MSG_ARG_TYPES, msgArgs(description));
     if (o instanceof AssertionError) return (AssertionError) o;
     return null;
   }
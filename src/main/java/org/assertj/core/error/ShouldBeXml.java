@@ -6,8 +6,24 @@ public class ShouldBeXml extends BasicErrorMessageFactory {
     super("\nExpecting xml document but was:<%s>", actual);
   }
 
+  private ShouldBeXml(String source, String error) {
+    super("\nExpecting xml document but %s is not well formed:\n %s", unquotedString(source), unquotedString(error));
+  }
+
   public static ErrorMessageFactory shouldBeXml(CharSequence actual) {
     return new ShouldBeXml(actual);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldBeXml}</code> describing the xml source rather than quoting it, for xml that may
+   * be too big to be part of the message.
+   * 
+   * @param source a short description of the xml source.
+   * @param error the parsing error, with its location.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeWellFormedXml(String source, String error) {
+    return new ShouldBeXml(source, error);
+  }
+
 }
@@ -15,16 +15,26 @@
 package org.assertj.core.groups;
 
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.groups.Tuple.buildTuples;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.introspection.Accessors.findPropertyAccessor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.internal.PropertySupport;
 import org.assertj.core.util.Lists;
+import org.assertj.core.util.introspection.Accessor;
+import org.assertj.core.util.introspection.FieldAccessor;
 import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.PropertyAccessor;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
@@ -72,6 +82,19 @@ public class FieldsOrPropertiesExtractor {
     if (objects == null)
       throw new IllegalArgumentException("The objects to extract field/property from should not be null");
 
+    List<Object> objectsAsList = newArrayList(objects);
+    List<Object[]> rows = extractInOnePass(objectsAsList, propertyOrFieldName);
+    if (rows != null) {
+      List<Object> extractedValues = new ArrayList<Object>(rows.size());
+      for (Object[] row : rows) {
+        extractedValues.add(row[0]);
+      }
+      return unmodifiableList(extractedValues);
+    }
+    return extractFromPropertiesOrElseFields(propertyOrFieldName, objectsAsList);
+  }
+
+  private static List<Object> extractFromPropertiesOrElseFields(String propertyOrFieldName, Iterable<?> objects) {
     // first try to get given property values from objects, then try properties
     try {
       return PropertySupport.instance().propertyValues(propertyOrFieldName, objects);
@@ -81,14 +104,19 @@ public class FieldsOrPropertiesExtractor {
         return FieldSupport.instance().fieldValues(propertyOrFieldName, objects);
       } catch (IntrospectionError propertyIntrospectionError) {
         // no field nor property found with given name, it is considered as an error
-        String message = format(
-            "\nCan't find any field or property with name '%s'.\nError when introspecting fields was :\n- %s \nError when introspecting properties was :\n- %s",
-            propertyOrFieldName, fieldIntrospectionError.getMessage(), propertyIntrospectionError.getMessage());
-        throw new IntrospectionError(message);
+        throw noFieldNorProperty(propertyOrFieldName, fieldIntrospectionError, propertyIntrospectionError);
       }
     }
   }
 
+  private static IntrospectionError noFieldNorProperty(String propertyOrFieldName, IntrospectionError propertyError,
+                                                       IntrospectionError fieldError) {
+    String message = format(
+        "\nCan't find any field or property with name '%s'.\nError when introspecting fields was :\n- %s \nError when introspecting properties was :\n- %s",
+        propertyOrFieldName, propertyError.getMessage(), fieldError.getMessage());
+    return new IntrospectionError(message);
+  }
+
   /**
    * Behavior is described in {@link AbstractIterableAssert#extracting(String...)}
    */
@@ -101,6 +129,14 @@ public class FieldsOrPropertiesExtractor {
       throw new IllegalArgumentException("The objects to extract fields/properties from should not be null");
     // convert objects to a list to ensure consistent iteration order in extracted fields/properties
     List<Object> objectsAsList = newArrayList(objects);
+    List<Object[]> rows = extractInOnePass(objectsAsList, fieldsOrPropertiesNames);
+    if (rows != null) {
+      List<Tuple> extractedTuples = new ArrayList<Tuple>(rows.size());
+      for (Object[] row : rows) {
+        extractedTuples.add(new Tuple(row));
+      }
+      return extractedTuples;
+    }
     List<Tuple> extractedTuples = buildTuples(objectsAsList.size());
     for (String fieldOrPropertyName : fieldsOrPropertiesNames) {
       List<Object> extractValues = extract(fieldOrPropertyName, objectsAsList);
@@ -110,4 +146,106 @@ public class FieldsOrPropertiesExtractor {
     }
     return extractedTuples;
   }
+
+  /**
+   * Reads the given fields/properties of each object in a single pass, the way to read each name (property or field)
+   * being decided once for all objects classes as {@link #extract(String, Iterable)} would: properties are preferred and
+   * fields are used only if one of the objects classes does not have the property.
+   * <p>
+   * Returns {@code null} when this is not possible (null objects, nested or unknown names), the caller has then to
+   * extract each name separately so that behavior and error messages stay the same. A failing getter is not called
+   * again that way, the field is read instead for all objects, as {@link #extract(String, Iterable)} does.
+   * 
+   * @throws IntrospectionError if a property can't be read from one of the objects and there is no field to read
+   *           instead.
+   */
+  private static List<Object[]> extractInOnePass(List<Object> objects, String... names) {
+    Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+    for (Object object : objects) {
+      if (object == null) return null;
+      types.add(object.getClass());
+    }
+    Map<Class<?>, Accessor[]> accessorsByType = new HashMap<Class<?>, Accessor[]>();
+    for (Class<?> type : types) {
+      accessorsByType.put(type, new Accessor[names.length]);
+    }
+    for (int i = 0; i < names.length; i++) {
+      if (!resolve(names[i], i, accessorsByType)) return null;
+    }
+    List<Object[]> rows = new ArrayList<Object[]>(objects.size());
+    Class<?> lastType = null;
+    Accessor[] accessors = null;
+    for (Object object : objects) {
+      if (object.getClass() != lastType) {
+        lastType = object.getClass();
+        accessors = accessorsByType.get(lastType);
+      }
+      Object[] row = new Object[names.length];
+      for (int i = 0; i < names.length; i++) {
+        try {
+          row[i] = valueOf(accessors[i], object);
+        } catch (IntrospectionError propertyError) {
+          if (!(accessors[i] instanceof PropertyAccessor)) throw propertyError;
+          // like extract(String, Iterable), read the field of all objects instead, without calling getters again
+          readFieldInstead(names[i], i, objects, accessorsByType, propertyError);
+          for (int j = 0; j < rows.size(); j++) {
+            Object previousObject = objects.get(j);
+            rows.get(j)[i] = valueOf(accessorsByType.get(previousObject.getClass())[i], previousObject);
+          }
+          row[i] = valueOf(accessors[i], object);
+        }
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static void readFieldInstead(String name, int index, List<Object> objects,
+                                       Map<Class<?>, Accessor[]> accessorsByType, IntrospectionError propertyError) {
+    for (Object object : objects) {
+      Accessor[] accessors = accessorsByType.get(object.getClass());
+      if (accessors[index] instanceof FieldAccessor) continue;
+      Accessor fieldAccessor = FieldSupport.instance().readableFieldAccessor(name, object.getClass());
+      if (fieldAccessor == null) {
+        try {
+          FieldSupport.instance().fieldValue(name, Object.class, object);
+        } catch (IntrospectionError fieldError) {
+          throw noFieldNorProperty(name, propertyError, fieldError);
+        }
+        throw propertyError;
+      }
+      accessors[index] = fieldAccessor;
+    }
+  }
+
+  private static Object valueOf(Accessor accessor, Object target) {
+    try {
+      return accessor.valueOf(target);
+    } catch (Throwable readingError) {
+      // reported as PropertySupport and FieldSupport report it
+      String member = accessor instanceof FieldAccessor ? "field" : "property";
+      String msg = format("Unable to obtain the value of the %s <'%s'> from <%s>", member, accessor.getName(), target);
+      throw new IntrospectionError(msg, readingError);
+    }
+  }
+
+  private static boolean resolve(String name, int index, Map<Class<?>, Accessor[]> accessorsByType) {
+    if (name == null || name.length() == 0 || name.contains(".")) return false;
+    boolean allProperties = true;
+    for (Entry<Class<?>, Accessor[]> typeAccessors : accessorsByType.entrySet()) {
+      Accessor accessor = findPropertyAccessor(name, typeAccessors.getKey());
+      if (accessor == null) {
+        allProperties = false;
+        break;
+      }
+      typeAccessors.getValue()[index] = accessor;
+    }
+    if (allProperties) return true;
+    for (Entry<Class<?>, Accessor[]> typeAccessors : accessorsByType.entrySet()) {
+      Accessor accessor = FieldSupport.instance().readableFieldAccessor(name, typeAccessors.getKey());
+      if (accessor == null) return false;
+      typeAccessors.getValue()[index] = accessor;
+    }
+    return true;
+  }
 }
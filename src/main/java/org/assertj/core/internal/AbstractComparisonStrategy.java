@@ -20,6 +20,7 @@ import static java.util.Collections.EMPTY_SET;
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
 
 import java.lang.reflect.Array;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -29,27 +30,44 @@ import java.util.Set;
  */
 public abstract class AbstractComparisonStrategy implements ComparisonStrategy {
 
+  /**
+   * Returns any duplicate elements from the given {@link Iterable}, counting equal elements with an
+   * {@link ElementIndex}: this takes O(n) expected time when this strategy provides a {@link #hasher() hasher},
+   * O(n.d) otherwise (d being the number of distinct elements).
+   * <p>
+   * Duplicates are returned in the order their second occurrence is found.
+   * 
+   * @param iterable the given {@link Iterable} we want to extract duplicate elements.
+   * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
+   *         empty {@link Iterable} is returned.
+   */
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
     if (isNullOrEmpty(iterable)) return EMPTY_SET;
 
-    Set<Object> duplicates = newSetUsingComparisonStrategy();
-    Set<Object> noDuplicates = newSetUsingComparisonStrategy();
+    Set<Object> duplicates = new LinkedHashSet<Object>();
+    ElementIndex elements = ElementIndex.newIndex(this);
     for (Object element : iterable) {
-      if (noDuplicates.contains(element)) {
+      // an element is a duplicate the first time it is seen again, ignore further occurrences
+      if (!elements.add(element) && elements.count(element) == 2) {
         duplicates.add(element);
-      } else {
-        noDuplicates.add(element);
       }
     }
     return duplicates;
   }
-  
+
   /**
-   * Returns a {@link Set} honoring the comparison strategy used.
-   * @return a {@link Set} honoring the comparison strategy used.
+   * Returns the {@link ElementIndex.Hasher} consistent with {@link #areEqual(Object, Object)}, i.e. giving the same hash
+   * code to objects equal according to this strategy, {@code null} if this strategy does not provide one.
+   * <p>
+   * Strategies providing a hasher let {@link ElementIndex} look up elements in constant time, others are looked up by
+   * scanning. Default implementation returns {@code null}.
+   * 
+   * @return the hasher consistent with this strategy, {@code null} if there is none.
    */
-  protected abstract Set<Object> newSetUsingComparisonStrategy();
+  ElementIndex.Hasher hasher() {
+    return null;
+  }
 
   @Override
   public boolean arrayContains(Object array, Object value) {
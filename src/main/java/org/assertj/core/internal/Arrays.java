@@ -63,7 +63,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -86,6 +85,8 @@ public class Arrays {
 
   private static final Arrays INSTANCE = new Arrays();
   private final ComparisonStrategy comparisonStrategy;
+  @VisibleForTesting
+  ConditionEvaluator conditionEvaluator = ConditionEvaluator.instance();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -104,6 +105,12 @@ public class Arrays {
     this.comparisonStrategy = comparisonStrategy;
   }
 
+  Arrays withConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+    Arrays arrays = new Arrays(comparisonStrategy);
+    arrays.conditionEvaluator = conditionEvaluator;
+    return arrays;
+  }
+
   @VisibleForTesting
   public Comparator<?> getComparator() {
     if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
@@ -442,7 +449,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> notSatisfiesCondition = elementsNotSatisfyingCondition(array, condition);
+      List<E> notSatisfiesCondition = conditionEvaluator.elementsNotMatching(Arrays.<E> elementsOf(array), condition);
       if (!notSatisfiesCondition.isEmpty())
         throw failures.failure(info, elementsShouldBe(array, notSatisfiesCondition, condition));
     } catch (ClassCastException e) {
@@ -455,7 +462,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
+      List<E> satisfiesCondition = conditionEvaluator.elementsMatching(Arrays.<E> elementsOf(array), condition);
       if (satisfiesCondition.isEmpty()) {
         return;
       }
@@ -470,7 +477,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> notSatisfiesCondition = elementsNotSatisfyingCondition(array, condition);
+      List<E> notSatisfiesCondition = conditionEvaluator.elementsNotMatching(Arrays.<E> elementsOf(array), condition);
       if (notSatisfiesCondition.isEmpty()) {
         return;
       }
@@ -485,7 +492,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
+      List<E> satisfiesCondition = conditionEvaluator.elementsMatching(Arrays.<E> elementsOf(array), condition);
       if (satisfiesCondition.isEmpty()) {
         return;
       }
@@ -500,8 +507,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() >= times) {
+      if (conditionEvaluator.atLeastNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldBeAtLeast(array, times, condition));
@@ -515,8 +521,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() <= times) {
+      if (conditionEvaluator.atMostNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldBeAtMost(array, times, condition));
@@ -530,8 +535,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() == times) {
+      if (conditionEvaluator.exactlyNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldBeExactly(array, times, condition));
@@ -545,8 +549,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() >= times) {
+      if (conditionEvaluator.atLeastNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldHaveAtLeast(array, times, condition));
@@ -560,8 +563,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() <= times) {
+      if (conditionEvaluator.atMostNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldHaveAtMost(array, times, condition));
@@ -575,8 +577,7 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = elementsSatisfyingCondition(array, condition);
-      if (satisfiesCondition.size() == times) {
+      if (conditionEvaluator.exactlyNElementsMatch(Arrays.<E> elementsOf(array), times, condition)) {
         return;
       }
       throw failures.failure(info, elementsShouldHaveExactly(array, times, condition));
@@ -586,27 +587,8 @@ public class Arrays {
   }
 
   @SuppressWarnings("unchecked")
-  private <E> List<E> elementsNotSatisfyingCondition(Object array, Condition<E> condition) {
-    List<E> elementsNotSatisfyingCondition = new LinkedList<E>();
-    int arraySize = sizeOf(array);
-    for (int i = 0; i < arraySize; i++) {
-      Object o = Array.get(array, i);
-      if (!condition.matches((E) o))
-        elementsNotSatisfyingCondition.add((E) o);
-    }
-    return elementsNotSatisfyingCondition;
-  }
-
-  @SuppressWarnings("unchecked")
-  private <E> List<E> elementsSatisfyingCondition(Object array, Condition<E> condition) {
-    List<E> elementsSatisfyingCondition = new LinkedList<E>();
-    int arraySize = sizeOf(array);
-    for (int i = 0; i < arraySize; i++) {
-      Object o = Array.get(array, i);
-      if (condition.matches((E) o))
-        elementsSatisfyingCondition.add((E) o);
-    }
-    return elementsSatisfyingCondition;
+  private static <E> List<E> elementsOf(Object array) {
+    return (List<E>) wrap(array);
   }
 
   void assertIsSorted(AssertionInfo info, Failures failures, Object array) {
@@ -14,52 +14,202 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.assertj.core.util.VisibleForTesting;
 
 
 /**
  * Compares the binary content of two streams.
+ * <p>
+ * Contents are compared block by block, eight bytes at a time, files bigger than {@value #CHANNEL_THRESHOLD} bytes
+ * being read in a direct buffer rather than in an array.
+ * </p>
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  private static final int BLOCK_SIZE = 8192;
+  private static final long CHANNEL_THRESHOLD = 1024 * 1024;
+  private static final int CHANNEL_BLOCK_SIZE = 256 * 1024;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
-    InputStream expectedStream = new ByteArrayInputStream(expected);
-    InputStream actualStream = null;
+    FileInputStream actualStream = null;
+    boolean threw = true;
+    try {
+      actualStream = new FileInputStream(actual);
+      BinaryDiffResult result = diff(blocksOf(actualStream), new ArrayBlocks(expected));
+      threw = false;
+      return result;
+    } finally {
+      close(actualStream, threw);
+    }
+  }
+
+  /**
+   * Compares the binary content of two files.
+   * 
+   * @param actual the actual file.
+   * @param expected the expected file.
+   * @return the first difference between the two files.
+   * @throws IOException if an I/O error occurs.
+   */
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    FileInputStream actualStream = null;
+    FileInputStream expectedStream = null;
     boolean threw = true;
     try {
       actualStream = new FileInputStream(actual);
-      BinaryDiffResult result = diff(actualStream, expectedStream);
+      expectedStream = new FileInputStream(expected);
+      BinaryDiffResult result = diff(blocksOf(actualStream), blocksOf(expectedStream));
       threw = false;
       return result;
     } finally {
       try {
-        if (actualStream != null) actualStream.close();
-      } catch (IOException e) {
-        // Only rethrow if it doesn't shadow an exception thrown from the inner try block
-        if (!threw) throw e;
+        close(expectedStream, threw);
+      } finally {
+        close(actualStream, threw);
       }
     }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
-    while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+    return diff(new StreamBlocks(actualStream), new StreamBlocks(expectedStream));
+  }
+
+  private static BinaryDiffResult diff(Blocks actualBlocks, Blocks expectedBlocks) throws IOException {
+    ByteBuffer actual = actualBlocks.next();
+    ByteBuffer expected = expectedBlocks.next();
+    int offset = 0;
+    while (actual != null && expected != null) {
+      int length = Math.min(actual.remaining(), expected.remaining());
+      int mismatch = mismatch(actual, expected, length);
+      if (mismatch != EOF) {
+        return new BinaryDiffResult(offset + mismatch, byteAt(expected, mismatch), byteAt(actual, mismatch));
+      }
+      offset += length;
+      actual.position(actual.position() + length);
+      expected.position(expected.position() + length);
+      if (!actual.hasRemaining()) actual = actualBlocks.next();
+      if (!expected.hasRemaining()) expected = expectedBlocks.next();
+    }
+    if (actual == null && expected == null) return BinaryDiffResult.noDiff(); // reached end of both streams
+    return new BinaryDiffResult(offset, byteAt(expected, 0), byteAt(actual, 0));
+  }
+
+  /**
+   * Returns the index of the first different byte within the given length from the positions of the given buffers,
+   * {@value #EOF} if there is none.
+   */
+  private static int mismatch(ByteBuffer actual, ByteBuffer expected, int length) {
+    int actualStart = actual.position();
+    int expectedStart = expected.position();
+    int i = 0;
+    while (i + 8 <= length && actual.getLong(actualStart + i) == expected.getLong(expectedStart + i)) {
+      i += 8;
+    }
+    for (; i < length; i++) {
+      if (actual.get(actualStart + i) != expected.get(expectedStart + i)) return i;
+    }
+    return EOF;
+  }
+
+  private static int byteAt(ByteBuffer buffer, int index) {
+    return buffer == null ? EOF : buffer.get(buffer.position() + index) & 0xFF;
+  }
+
+  private static Blocks blocksOf(FileInputStream stream) throws IOException {
+    FileChannel channel = stream.getChannel();
+    return channel.size() < CHANNEL_THRESHOLD ? new StreamBlocks(stream) : new ChannelBlocks(channel);
+  }
+
+  private static void close(InputStream stream, boolean threw) throws IOException {
+    try {
+      if (stream != null) stream.close();
+    } catch (IOException e) {
+      // Only rethrow if it doesn't shadow an exception thrown from the inner try block
+      if (!threw) throw e;
+    }
+  }
+
+  /**
+   * Successive blocks of a binary content.
+   */
+  private interface Blocks {
+    /**
+     * Returns the next non empty block, <code>null</code> once the end of the content is reached.
+     */
+    ByteBuffer next() throws IOException;
+  }
+
+  private static class StreamBlocks implements Blocks {
+
+    private final InputStream stream;
+    private final byte[] buffer = new byte[BLOCK_SIZE];
+
+    StreamBlocks(InputStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public ByteBuffer next() throws IOException {
+      int read;
+      do {
+        read = stream.read(buffer);
+      } while (read == 0);
+      return read == EOF ? null : ByteBuffer.wrap(buffer, 0, read);
+    }
+  }
+
+  private static class ArrayBlocks implements Blocks {
+
+    private byte[] content;
+
+    ArrayBlocks(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public ByteBuffer next() {
+      ByteBuffer block = content == null || content.length == 0 ? null : ByteBuffer.wrap(content);
+      content = null;
+      return block;
+    }
+  }
+
+  /**
+   * Reads a file channel in a reused direct buffer, which avoids copying big files to the heap without mapping them:
+   * mapped regions are only released on garbage collection, keeping files locked on some platforms.
+   */
+  private static class ChannelBlocks implements Blocks {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BLOCK_SIZE);
+
+    ChannelBlocks(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public ByteBuffer next() throws IOException {
+      buffer.clear();
+      int read;
+      do {
+        read = channel.read(buffer);
+      } while (read == 0);
+      if (read == EOF) return null;
+      buffer.flip();
+      return buffer;
     }
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Skips the bytes two streams have in common, before they are decoded and compared line by line.
+ * <p>
+ * The streams are compared a block at a time; on the first different byte, both streams are resumed from the
+ * beginning of the line containing it, so that comparing them line by line gives the same result as comparing them
+ * from the start. The common start of the current line is kept for that purpose, once it gets bigger than
+ * {@value #MAX_LINE_START_SIZE} bytes, skipping stops and both streams are resumed from the beginning of that line.
+ * </p>
+ */
+final class CommonLinesPrefix {
+
+  private static final int BLOCK_SIZE = 8192;
+  private static final int MAX_LINE_START_SIZE = 1024 * 1024;
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+
+  private final InputStream actual;
+  private final InputStream expected;
+  private final int lineCount;
+
+  private CommonLinesPrefix(InputStream actual, InputStream expected, int lineCount) {
+    this.actual = actual;
+    this.expected = expected;
+    this.lineCount = lineCount;
+  }
+
+  /**
+   * Returns <code>true</code> if line terminators are encoded as single ASCII bytes in the given charset and cannot be
+   * part of the encoding of other characters, in which case lines can be found in encoded content.
+   */
+  static boolean canSplitLines(Charset charset) {
+    return Arrays.equals(new byte[] { CR, LF }, "\r\n".getBytes(charset))
+           && Arrays.equals(new byte[] { 'a' }, "a".getBytes(charset));
+  }
+
+  /**
+   * Skips the lines the given streams have in common.
+   * 
+   * @param actual the actual stream.
+   * @param expected the expected stream.
+   * @return the lines that were not skipped, <code>null</code> if both streams have the same content.
+   * @throws IOException if an I/O error occurs.
+   */
+  static CommonLinesPrefix skip(InputStream actual, InputStream expected) throws IOException {
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    // common bytes since the last line feed
+    ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+    int lineCount = 0;
+    while (true) {
+      int actualLength = fill(actual, actualBlock);
+      int expectedLength = fill(expected, expectedBlock);
+      int length = Math.min(actualLength, expectedLength);
+      int mismatch = mismatch(actualBlock, expectedBlock, length);
+      int lineStart = 0;
+      for (int i = 0; i < mismatch; i++) {
+        if (actualBlock[i] == LF) {
+          currentLine.write(actualBlock, lineStart, i - lineStart);
+          lineCount += 1 + loneCarriageReturns(currentLine.toByteArray());
+          currentLine.reset();
+          lineStart = i + 1;
+        }
+      }
+      currentLine.write(actualBlock, lineStart, mismatch - lineStart);
+      if (mismatch == length && actualLength == expectedLength) {
+        if (length < BLOCK_SIZE) return null; // reached end of both streams
+        if (currentLine.size() <= MAX_LINE_START_SIZE) continue;
+        // stop skipping rather than keeping a huge line (or a content without line feeds) in memory
+        byte[] commonLineStart = currentLine.toByteArray();
+        return new CommonLinesPrefix(resume(commonLineStart, actualBlock, length, length, actual),
+                                     resume(commonLineStart, expectedBlock, length, length, expected), lineCount);
+      }
+      byte[] commonLineStart = currentLine.toByteArray();
+      return new CommonLinesPrefix(resume(commonLineStart, actualBlock, mismatch, actualLength, actual),
+                                   resume(commonLineStart, expectedBlock, mismatch, expectedLength, expected),
+                                   lineCount);
+    }
+  }
+
+  /**
+   * Returns the number of carriage returns of the given line content that are line terminators, i.e. that are not
+   * followed by a line feed, the last byte being followed by one.
+   */
+  private static int loneCarriageReturns(byte[] line) {
+    int count = 0;
+    for (int i = 0; i < line.length - 1; i++) {
+      if (line[i] == CR) count++;
+    }
+    return count;
+  }
+
+  private static int fill(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  private static int mismatch(byte[] actual, byte[] expected, int length) {
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
+    }
+    return length;
+  }
+
+  private static InputStream resume(byte[] commonLineStart, byte[] block, int from, int to, InputStream rest) {
+    ByteArrayOutputStream read = new ByteArrayOutputStream(commonLineStart.length + to - from);
+    read.write(commonLineStart, 0, commonLineStart.length);
+    read.write(block, from, to - from);
+    return new SequenceInputStream(new ByteArrayInputStream(read.toByteArray()), rest);
+  }
+
+  /**
+   * Returns the actual stream, resumed at the beginning of the first line that may differ.
+   */
+  InputStream actual() {
+    return actual;
+  }
+
+  /**
+   * Returns the expected stream, resumed at the beginning of the first line that may differ.
+   */
+  InputStream expected() {
+    return expected;
+  }
+
+  /**
+   * Returns the number of lines skipped in both streams.
+   */
+  int lineCount() {
+    return lineCount;
+  }
+}
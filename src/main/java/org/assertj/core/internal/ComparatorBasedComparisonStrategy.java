@@ -14,13 +14,18 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.EMPTY_SET;
+
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
@@ -102,21 +107,40 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
 
   /**
    * Returns any duplicate elements from the given {@link Iterable} according to {@link #comparator}.
+   * <p>
+   * Elements are sorted with {@link #comparator} then scanned once to find consecutive equal ones, this takes
+   * O(n log n) time. Duplicates are returned sorted, followed by {@code null} if it was found more than once.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an empty
    *         {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
-  public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
-    return super.duplicatesFrom(iterable);
-  }
-  
   @SuppressWarnings("unchecked")
-  @Override
-  protected Set<Object> newSetUsingComparisonStrategy() {
-    return new TreeSet<Object>(comparator);
+  public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
+    if (isNullOrEmpty(iterable)) return EMPTY_SET;
+
+    // comparator may not support null, count null elements apart
+    List<Object> sorted = new ArrayList<Object>();
+    int nullCount = 0;
+    for (Object element : iterable) {
+      if (element == null) nullCount++;
+      else sorted.add(element);
+    }
+    Collections.sort(sorted, comparator);
+    Set<Object> duplicates = new LinkedHashSet<Object>();
+    int i = 0;
+    while (i < sorted.size()) {
+      Object element = sorted.get(i);
+      int next = i + 1;
+      while (next < sorted.size() && comparator.compare(element, sorted.get(next)) == 0) {
+        next++;
+      }
+      if (next - i > 1) duplicates.add(sorted.get(i + 1));
+      i = next;
+    }
+    if (nullCount > 1) duplicates.add(null);
+    return duplicates;
   }
 
   @Override
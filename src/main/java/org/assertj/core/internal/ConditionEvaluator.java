@@ -0,0 +1,134 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Evaluates a <code>{@link Condition}</code> on the elements of a group.
+ * <p>
+ * Elements are counted without being collected, and only as long as the number of elements matching the condition is
+ * not known to be enough or too many, so that a condition is not evaluated on elements that can't change the result.
+ */
+public class ConditionEvaluator {
+
+  private static final ConditionEvaluator INSTANCE = new ConditionEvaluator();
+
+  /**
+   * Returns the singleton instance of this class.
+   * 
+   * @return the singleton instance of this class.
+   */
+  public static ConditionEvaluator instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  ConditionEvaluator() {}
+
+  /**
+   * Returns the elements matching the given condition, in iteration order.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param condition the given condition.
+   * @return the elements matching the given condition.
+   */
+  public <E> List<E> elementsMatching(Iterable<? extends E> elements, Condition<? super E> condition) {
+    List<E> elementsMatching = new ArrayList<E>();
+    for (E element : elements) {
+      if (condition.matches(element)) elementsMatching.add(element);
+    }
+    return elementsMatching;
+  }
+
+  /**
+   * Returns the elements not matching the given condition, in iteration order.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param condition the given condition.
+   * @return the elements not matching the given condition.
+   */
+  public <E> List<E> elementsNotMatching(Iterable<? extends E> elements, Condition<? super E> condition) {
+    List<E> elementsNotMatching = new ArrayList<E>();
+    for (E element : elements) {
+      if (!condition.matches(element)) elementsNotMatching.add(element);
+    }
+    return elementsNotMatching;
+  }
+
+  /**
+   * Returns {@code true} if at least n elements match the given condition, stops evaluating the condition as soon as
+   * n matching elements are found.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param n the minimum number of matching elements.
+   * @param condition the given condition.
+   * @return {@code true} if at least n elements match the given condition.
+   */
+  public <E> boolean atLeastNElementsMatch(Iterable<? extends E> elements, int n, Condition<? super E> condition) {
+    return countElementsMatching(elements, condition, n) >= n;
+  }
+
+  /**
+   * Returns {@code true} if at most n elements match the given condition, stops evaluating the condition as soon as
+   * n + 1 matching elements are found.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param n the maximum number of matching elements.
+   * @param condition the given condition.
+   * @return {@code true} if at most n elements match the given condition.
+   */
+  public <E> boolean atMostNElementsMatch(Iterable<? extends E> elements, int n, Condition<? super E> condition) {
+    return countElementsMatching(elements, condition, moreThan(n)) <= n;
+  }
+
+  /**
+   * Returns {@code true} if exactly n elements match the given condition, stops evaluating the condition as soon as
+   * n + 1 matching elements are found.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param n the expected number of matching elements.
+   * @param condition the given condition.
+   * @return {@code true} if exactly n elements match the given condition.
+   */
+  public <E> boolean exactlyNElementsMatch(Iterable<? extends E> elements, int n, Condition<? super E> condition) {
+    return countElementsMatching(elements, condition, moreThan(n)) == n;
+  }
+
+  private static int moreThan(int n) {
+    return n == Integer.MAX_VALUE ? n : n + 1;
+  }
+
+  /**
+   * Counts the elements matching the given condition, up to the given limit.
+   * 
+   * @param elements the elements to evaluate the condition on.
+   * @param condition the given condition.
+   * @param limit the count after which the condition is not evaluated anymore.
+   * @return the number of elements matching the given condition, or the limit if it was reached.
+   */
+  protected <E> int countElementsMatching(Iterable<? extends E> elements, Condition<? super E> condition, int limit) {
+    int count = 0;
+    for (E element : elements) {
+      if (count >= limit) break;
+      if (condition.matches(element)) count++;
+    }
+    return count;
+  }
+}
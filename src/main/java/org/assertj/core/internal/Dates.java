@@ -24,6 +24,12 @@ import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.error.ShouldBeWithin.shouldBeWithin;
 import static org.assertj.core.error.ShouldHaveTime.shouldHaveTime;
 import static org.assertj.core.error.ShouldNotBeBetween.shouldNotBeBetween;
+import static org.assertj.core.util.DateFields.MILLIS_PER_DAY;
+import static org.assertj.core.util.DateFields.MILLIS_PER_HOUR;
+import static org.assertj.core.util.DateFields.MILLIS_PER_MINUTE;
+import static org.assertj.core.util.DateFields.MILLIS_PER_SECOND;
+import static org.assertj.core.util.DateFields.localTimeOf;
+import static org.assertj.core.util.DateFields.truncate;
 import static org.assertj.core.util.Dates.dayOfMonthOf;
 import static org.assertj.core.util.Dates.dayOfWeekOf;
 import static org.assertj.core.util.Dates.hourOfDayOf;
@@ -42,6 +48,7 @@ import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.util.DateFields;
 import org.assertj.core.util.VisibleForTesting;
 
 
@@ -160,31 +167,35 @@ public class Dates {
    */
   public void assertIsEqualWithPrecision(AssertionInfo info, Date actual, Date other, TimeUnit precision) {
     assertNotNull(info, actual);
-    Calendar calendarActual = Calendar.getInstance();
-    calendarActual.setTime(actual);
-    Calendar calendarOther = Calendar.getInstance();
-    calendarOther.setTime(other);
+    if (!areEqualWithPrecision(actual, other, precision))
+      throw failures.failure(info, ShouldBeEqualWithTimePrecision.shouldBeEqual(actual, other, precision));
+  }
+
+  /**
+   * Compares the given dates ignoring the fields of the given precision and the smaller ones, for example
+   * {@link TimeUnit#HOURS} precision compares the days of the given dates.
+   */
+  private static boolean areEqualWithPrecision(Date actual, Date other, TimeUnit precision) {
+    long actualLocalTime = localTimeOf(actual);
+    long otherLocalTime = localTimeOf(other);
     switch (precision) {
       case DAYS:
-        calendarActual.set(Calendar.DAY_OF_WEEK, 0);
-        calendarOther.set(Calendar.DAY_OF_WEEK, 0);
+        return DateFields.areInSameMonth(actualLocalTime, otherLocalTime);
       case HOURS:
-        calendarActual.set(Calendar.HOUR, 0);
-        calendarOther.set(Calendar.HOUR, 0);
+        return areInSameSlot(actualLocalTime, otherLocalTime, MILLIS_PER_DAY);
       case MINUTES:
-        calendarActual.set(Calendar.MINUTE, 0);
-        calendarOther.set(Calendar.MINUTE, 0);
+        return areInSameSlot(actualLocalTime, otherLocalTime, MILLIS_PER_HOUR);
       case SECONDS:
-        calendarActual.set(Calendar.SECOND, 0);
-        calendarOther.set(Calendar.SECOND, 0);
+        return areInSameSlot(actualLocalTime, otherLocalTime, MILLIS_PER_MINUTE);
       case MILLISECONDS:
-        calendarActual.set(Calendar.MILLISECOND, 0);
-        calendarOther.set(Calendar.MILLISECOND, 0);
-      case MICROSECONDS:
-        break;
+        return areInSameSlot(actualLocalTime, otherLocalTime, MILLIS_PER_SECOND);
+      default:
+        return actual.getTime() == other.getTime();
     }
-    if(calendarActual.compareTo(calendarOther) != 0)
-    throw failures.failure(info, ShouldBeEqualWithTimePrecision.shouldBeEqual(actual, other, precision));
+  }
+
+  private static boolean areInSameSlot(long actualLocalTime, long otherLocalTime, long slotInMillis) {
+    return truncate(actualLocalTime, slotInMillis) == truncate(otherLocalTime, slotInMillis);
   }
 
   /**
@@ -471,7 +482,7 @@ public class Dates {
    * @return true if both date are in the same year and month, false otherwise
    */
   private static boolean areInSameMonth(Date actual, Date other) {
-    return areInSameYear(actual, other) && monthOf(actual) == monthOf(other);
+    return DateFields.areInSameMonth(localTimeOf(actual), localTimeOf(other));
   }
 
   /**
@@ -498,7 +509,7 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, false otherwise
    */
   private static boolean areInSameDayOfMonth(Date actual, Date other) {
-    return areInSameMonth(actual, other) && dayOfMonthOf(actual) == dayOfMonthOf(other);
+    return areInSameSlot(localTimeOf(actual), localTimeOf(other), MILLIS_PER_DAY);
   }
 
   /**
@@ -552,7 +563,7 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month and hour, false otherwise.
    */
   private static boolean areInSameHour(Date actual, Date other) {
-    return areInSameDayOfMonth(actual, other) && hourOfDayOf(actual) == hourOfDayOf(other);
+    return areInSameSlot(localTimeOf(actual), localTimeOf(other), MILLIS_PER_HOUR);
   }
 
   /**
@@ -594,7 +605,7 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month, hour and minute, false otherwise.
    */
   private static boolean areInSameMinute(Date actual, Date other) {
-    return areInSameHour(actual, other) && minuteOf(actual) == minuteOf(other);
+    return areInSameSlot(localTimeOf(actual), localTimeOf(other), MILLIS_PER_MINUTE);
   }
 
   private static boolean areInSameMinuteWindow(Date actual, Date other) {
@@ -650,7 +661,7 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, hour, minute and second, false otherwise.
    */
   private static boolean areInSameSecond(Date actual, Date other) {
-    return areInSameMinute(actual, other) && secondOf(actual) == secondOf(other);
+    return areInSameSlot(localTimeOf(actual), localTimeOf(other), MILLIS_PER_SECOND);
   }
 
   /**
@@ -15,6 +15,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 import static org.assertj.core.util.Objects.areEqual;
@@ -26,7 +27,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +40,22 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the contents of two files or two streams.
+ * <p>
+ * Contents are first compared byte by byte and are only decoded if they differ, the common lines of two streams being
+ * skipped. Both contents are then read line by line: lines are skipped as long as they are equal, then the next lines
+ * of both contents are aligned with Myers' algorithm, a window of {@value #DEFAULT_WINDOW_SIZE} lines at a time, so
+ * that a missing or an unexpected line is reported once instead of shifting all the following lines. Differences are
+ * reported as:
+ * <ul>
+ * <li><code>line:&lt;n&gt;, expected:&lt;e&gt; but was:&lt;a&gt;</code> when actual line n is different from the
+ * expected one,</li>
+ * <li><code>line:&lt;n&gt;, missing:&lt;e&gt;</code> when expected line n is not in actual content,</li>
+ * <li><code>line:&lt;n&gt;, unexpected:&lt;a&gt;</code> when actual line n is not in expected content,</li>
+ * <li><code>EOF</code> stands for the missing or unexpected lines at the end of the contents.</li>
+ * </ul>
+ * Only the first {@value #DEFAULT_MAX_DIFFERENCES} differences are reported, the others are only counted, this maximum can
+ * be changed globally with {@link #setMaxReportedDifferences(int)} or given when creating a {@link Diff}.
+ * </p>
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -46,29 +67,100 @@ import org.assertj.core.util.VisibleForTesting;
 @VisibleForTesting
 public class Diff {
   private static final String EOF = "EOF";
+  private static final int DEFAULT_MAX_DIFFERENCES = 100;
+  private static final int DEFAULT_WINDOW_SIZE = 256;
+
+  private static final byte EQUAL = 0;
+  // expected line not in actual content
+  private static final byte MISSING = 1;
+  // actual line not in expected content
+  private static final byte UNEXPECTED = 2;
+
+  // maximum number of reported differences of Diff instances created without one
+  private static volatile int maxReportedDifferences = DEFAULT_MAX_DIFFERENCES;
+
+  // 0 for the globally set maximum
+  private final int maxDifferences;
+  private final int windowSize;
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  /**
+   * Creates a new {@link Diff} reporting at most the number of differences set with
+   * {@link #setMaxReportedDifferences(int)}, at the time contents are compared.
+   */
+  public Diff() {
+    this(0, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a new {@link Diff} reporting at most the given number of differences.
+   * 
+   * @param maxDifferences the maximum number of reported differences.
+   * @throws IllegalArgumentException if the given number is not positive.
+   */
+  public Diff(int maxDifferences) {
+    this(checkPositive(maxDifferences), DEFAULT_WINDOW_SIZE);
+  }
+
+  @VisibleForTesting
+  Diff(int maxDifferences, int windowSize) {
+    this.maxDifferences = maxDifferences;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Globally sets the maximum number of differences reported by file and input stream content assertions, the other
+   * differences are only counted.
+   * 
+   * @param maxDifferences the maximum number of reported differences. Default {@value #DEFAULT_MAX_DIFFERENCES}.
+   * @throws IllegalArgumentException if the given number is not positive.
+   */
+  public static void setMaxReportedDifferences(int maxDifferences) {
+    maxReportedDifferences = checkPositive(maxDifferences);
+  }
+
+  private static int checkPositive(int maxDifferences) {
+    if (maxDifferences <= 0) throw new IllegalArgumentException("The maximum number of differences should be positive");
+    return maxDifferences;
+  }
 
   @VisibleForTesting
   public List<String> diff(InputStream actual, InputStream expected) throws IOException {
     BufferedReader reader1 = null;
     BufferedReader reader2 = null;
     try {
-      reader1 = readerFor(actual);
-      reader2 = readerFor(expected);
-      return unmodifiableList(diff(reader1, reader2));
+      InputStream actualLines = actual;
+      InputStream expectedLines = expected;
+      int firstLineNumber = 0;
+      if (CommonLinesPrefix.canSplitLines(Charset.defaultCharset())) {
+        CommonLinesPrefix prefix = CommonLinesPrefix.skip(actual, expected);
+        if (prefix == null) return emptyList();
+        actualLines = prefix.actual();
+        expectedLines = prefix.expected();
+        firstLineNumber = prefix.lineCount();
+      }
+      reader1 = readerFor(actualLines);
+      reader2 = readerFor(expectedLines);
+      return unmodifiableList(diff(reader1, reader2, firstLineNumber));
     } finally {
       closeQuietly(reader1);
       closeQuietly(reader2);
+      // the streams have not been wrapped in readers when they are equal
+      closeQuietly(actual);
+      closeQuietly(expected);
     }
   }
 
   @VisibleForTesting
   public List<String> diff(File actual, File expected) throws IOException {
+    // both files are read with the same charset, the same bytes make the same lines
+    if (actual.length() == expected.length() && binaryDiff.diff(actual, expected).hasNoDiff()) return emptyList();
     BufferedReader reader1 = null;
     BufferedReader reader2 = null;
     try {
       reader1 = readerFor(actual);
       reader2 = readerFor(expected);
-      return unmodifiableList(diff(reader1, reader2));
+      return unmodifiableList(diff(reader1, reader2, 0));
     } finally {
       closeQuietly(reader1);
       closeQuietly(reader2);
@@ -77,16 +169,40 @@ public class Diff {
 
   @VisibleForTesting
   public List<String> diff(File actual, String expected, Charset charset) throws IOException {
+    byte[] encodedExpected = encode(expected, charset);
+    if (encodedExpected != null && actual.length() == encodedExpected.length
+        && binaryDiff.diff(actual, encodedExpected).hasNoDiff()) {
+      return emptyList();
+    }
     BufferedReader reader1 = null;
     try {
       reader1 = readerFor(actual, charset);
       BufferedReader reader2 = readerFor(expected);
-      return unmodifiableList(diff(reader1, reader2));
+      return unmodifiableList(diff(reader1, reader2, 0));
     } finally {
       closeQuietly(reader1);
     }
   }
 
+  /**
+   * Returns the given text encoded with the given charset, <code>null</code> if the charset cannot encode it since
+   * decoding the encoded text would not give it back.
+   */
+  private static byte[] encode(String text, Charset charset) {
+    try {
+      ByteBuffer encoded = charset.newEncoder().onMalformedInput(CodingErrorAction.REPORT)
+                                  .onUnmappableCharacter(CodingErrorAction.REPORT).encode(CharBuffer.wrap(text));
+      byte[] bytes = new byte[encoded.remaining()];
+      encoded.get(bytes);
+      return bytes;
+    } catch (CharacterCodingException e) {
+      return null;
+    } catch (UnsupportedOperationException e) {
+      // charset only supports decoding
+      return null;
+    }
+  }
+
   private BufferedReader readerFor(InputStream stream) {
     return new BufferedReader(new InputStreamReader(stream));
   }
@@ -107,20 +223,206 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
-  private List<String> diff(BufferedReader actual, BufferedReader expected) throws IOException {
-    List<String> diffs = new ArrayList<String>();
-    int lineNumber = 0;
+  private List<String> diff(BufferedReader actual, BufferedReader expected, int firstLineNumber) throws IOException {
+    Lines actualLines = new Lines(actual, firstLineNumber);
+    Lines expectedLines = new Lines(expected, firstLineNumber);
+    Report report = new Report();
     while (true) {
-      String actualLine = actual.readLine();
-      String expectedLine = expected.readLine();
-      if (actualLine == null || expectedLine == null) {
-        if (expectedLine != null) diffs.add(output(lineNumber, EOF, expectedLine));
-        if (actualLine != null) diffs.add(output(lineNumber, actualLine, EOF));
-        return diffs;
-      } else if (!areEqual(actualLine, expectedLine)) {
-        diffs.add(output(lineNumber, actualLine, expectedLine));
+      if (actualLines.isEmpty() && expectedLines.isEmpty()) {
+        // contents are aligned, skip equal lines
+        String actualLine = actualLines.read();
+        String expectedLine = expectedLines.read();
+        if (actualLine == null && expectedLine == null) return report.differences();
+        if (areEqual(actualLine, expectedLine)) {
+          actualLines.consume(1);
+          expectedLines.consume(1);
+          continue;
+        }
+      }
+      actualLines.fill(windowSize);
+      expectedLines.fill(windowSize);
+      boolean lastWindow = actualLines.exhausted && expectedLines.exhausted;
+      byte[] script = editScript(expectedLines.window, actualLines.window);
+      report.add(script, endOfAlignedScript(script, lastWindow), expectedLines, actualLines, lastWindow);
+    }
+  }
+
+  /**
+   * Returns the end of the part of the given edit script that can be reported: since following lines could change
+   * the alignment of the last differences of a window, only differences followed by equal lines are reported unless
+   * this is the last window.
+   */
+  private static int endOfAlignedScript(byte[] script, boolean lastWindow) {
+    if (lastWindow) return script.length;
+    for (int i = script.length - 1; i >= 0; i--) {
+      if (script[i] == EQUAL) return i + 1;
+    }
+    // nothing to align, don't wait for more lines
+    return script.length;
+  }
+
+  /**
+   * Computes the shortest edit script from expected to actual lines with Myers' algorithm, as a sequence of
+   * {@link #EQUAL}, {@link #MISSING} and {@link #UNEXPECTED} operations.
+   */
+  private static byte[] editScript(List<String> expected, List<String> actual) {
+    int n = expected.size();
+    int m = actual.size();
+    int offset = n + m;
+    int[] v = new int[2 * offset + 2];
+    List<int[]> trace = new ArrayList<int[]>();
+    search: for (int d = 0; d <= n + m; d++) {
+      trace.add(v.clone());
+      for (int k = -d; k <= d; k += 2) {
+        int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]) ? v[offset + k + 1] : v[offset + k - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && expected.get(x).equals(actual.get(y))) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if (x >= n && y >= m) break search;
+      }
+    }
+    // follow the path back from the end
+    byte[] script = new byte[n + m];
+    int length = 0;
+    int x = n;
+    int y = m;
+    for (int d = trace.size() - 1; d >= 0; d--) {
+      int[] previous = trace.get(d);
+      int k = x - y;
+      int previousK = k == -d || (k != d && previous[offset + k - 1] < previous[offset + k + 1]) ? k + 1 : k - 1;
+      int previousX = previous[offset + previousK];
+      int previousY = previousX - previousK;
+      while (x > previousX && y > previousY) {
+        script[length++] = EQUAL;
+        x--;
+        y--;
+      }
+      if (d > 0) script[length++] = x == previousX ? UNEXPECTED : MISSING;
+      x = previousX;
+      y = previousY;
+    }
+    byte[] ordered = new byte[length];
+    for (int i = 0; i < length; i++) {
+      ordered[i] = script[length - 1 - i];
+    }
+    return ordered;
+  }
+
+  /**
+   * Lines read from a content and not yet reported.
+   */
+  private static class Lines {
+
+    private final BufferedReader reader;
+    private final List<String> window = new ArrayList<String>();
+    // number of the first line of the window
+    private int lineNumber;
+    private boolean exhausted;
+
+    Lines(BufferedReader reader, int lineNumber) {
+      this.reader = reader;
+      this.lineNumber = lineNumber;
+    }
+
+    boolean isEmpty() {
+      return window.isEmpty();
+    }
+
+    String read() throws IOException {
+      if (exhausted) return null;
+      String line = reader.readLine();
+      if (line == null) exhausted = true;
+      else window.add(line);
+      return line;
+    }
+
+    void fill(int size) throws IOException {
+      while (window.size() < size && read() != null) {
+        // keep reading
+      }
+    }
+
+    void consume(int count) {
+      window.subList(0, count).clear();
+      lineNumber += count;
+    }
+  }
+
+  /**
+   * Formats the differences up to the maximum number of differences and counts the others.
+   */
+  private class Report {
+
+    private final List<String> differences = new ArrayList<String>();
+    private final int limit = maxDifferences > 0 ? maxDifferences : maxReportedDifferences;
+    private int count;
+
+    void add(byte[] script, int end, Lines expected, Lines actual, boolean lastWindow) {
+      List<Integer> missing = new ArrayList<Integer>();
+      List<Integer> unexpected = new ArrayList<Integer>();
+      int expectedIndex = 0;
+      int actualIndex = 0;
+      for (int i = 0; i < end; i++) {
+        if (script[i] == MISSING) {
+          missing.add(expectedIndex++);
+        } else if (script[i] == UNEXPECTED) {
+          unexpected.add(actualIndex++);
+        } else {
+          addHunk(missing, unexpected, expected, actual, false);
+          expectedIndex++;
+          actualIndex++;
+        }
+      }
+      addHunk(missing, unexpected, expected, actual, lastWindow && end == script.length);
+      expected.consume(expectedIndex);
+      actual.consume(actualIndex);
+    }
+
+    private void addHunk(List<Integer> missing, List<Integer> unexpected, Lines expected, Lines actual,
+                         boolean endOfContents) {
+      int changed = Math.min(missing.size(), unexpected.size());
+      for (int i = 0; i < changed; i++) {
+        int actualIndex = unexpected.get(i);
+        add(output(actual.lineNumber + actualIndex, actual.window.get(actualIndex),
+                   expected.window.get(missing.get(i))));
+      }
+      // only the first line past the end of the shorter content is reported, as when lines were compared one by one
+      for (int i = changed; i < missing.size(); i++) {
+        int expectedIndex = missing.get(i);
+        String line = expected.window.get(expectedIndex);
+        int lineNumber = expected.lineNumber + expectedIndex;
+        if (endOfContents) {
+          add(output(lineNumber, EOF, line));
+          break;
+        }
+        add(format("line:<%d>, missing:<%s>", lineNumber, line));
+      }
+      for (int i = changed; i < unexpected.size(); i++) {
+        int actualIndex = unexpected.get(i);
+        String line = actual.window.get(actualIndex);
+        int lineNumber = actual.lineNumber + actualIndex;
+        if (endOfContents) {
+          add(output(lineNumber, line, EOF));
+          break;
+        }
+        add(format("line:<%d>, unexpected:<%s>", lineNumber, line));
+      }
+      missing.clear();
+      unexpected.clear();
+    }
+
+    private void add(String difference) {
+      if (count++ < limit) differences.add(difference);
+    }
+
+    List<String> differences() {
+      if (count > limit) {
+        differences.add(format("<%d> more differences not shown", count - limit));
       }
-      lineNumber += 1;
+      return differences;
     }
   }
 
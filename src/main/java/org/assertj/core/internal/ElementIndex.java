@@ -0,0 +1,286 @@
+/*
+ * Created on Apr 12, 2014
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Multiset of elements grouped by equality <b>according to a given {@link ComparisonStrategy}</b>, used to avoid
+ * scanning a whole group of elements each time we look for a value in it.
+ * <p>
+ * The lookup engine depends on the comparison strategy:
+ * <ul>
+ * <li>elements are hashed when the strategy provides a {@link Hasher} (see {@link AbstractComparisonStrategy#hasher()}),
+ * lookups take constant time,</li>
+ * <li>elements are kept sorted when the strategy is a {@link ComparatorBasedComparisonStrategy}, lookups take
+ * logarithmic time,</li>
+ * <li>otherwise elements are scanned with {@link ComparisonStrategy#areEqual(Object, Object)}, as
+ * {@link ComparisonStrategy#iterableContains(Iterable, Object)} does.</li>
+ * </ul>
+ */
+public abstract class ElementIndex {
+
+  protected final ComparisonStrategy comparisonStrategy;
+
+  /**
+   * Creates an empty {@link ElementIndex} using the fastest lookup engine the given comparison strategy allows.
+   *
+   * @param comparisonStrategy the comparison strategy used to group elements.
+   * @return a new empty {@link ElementIndex}.
+   */
+  public static ElementIndex newIndex(ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy instanceof AbstractComparisonStrategy) {
+      Hasher hasher = ((AbstractComparisonStrategy) comparisonStrategy).hasher();
+      if (hasher != null) return new HashingElementIndex(comparisonStrategy, hasher);
+    }
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      return new SortingElementIndex((ComparatorBasedComparisonStrategy) comparisonStrategy);
+    }
+    return new ScanningElementIndex(comparisonStrategy);
+  }
+
+  /**
+   * Creates an {@link ElementIndex} filled with the given elements.
+   *
+   * @param comparisonStrategy the comparison strategy used to group elements.
+   * @param elements the elements to index, may be {@code null}.
+   * @return a new {@link ElementIndex} containing the given elements.
+   */
+  public static ElementIndex newIndex(ComparisonStrategy comparisonStrategy, Iterable<?> elements) {
+    ElementIndex index = newIndex(comparisonStrategy);
+    if (elements != null) {
+      for (Object element : elements) {
+        index.add(element);
+      }
+    }
+    return index;
+  }
+
+  ElementIndex(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  /**
+   * Adds the given element to this index.
+   *
+   * @param element the element to add, may be {@code null}.
+   * @return {@code true} if no element equal to the given one was already in this index, {@code false} otherwise.
+   */
+  public boolean add(Object element) {
+    List<Object> group = groupOf(element);
+    if (group == null) {
+      group = new ArrayList<Object>(1);
+      putGroup(element, group);
+      group.add(element);
+      return true;
+    }
+    group.add(element);
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if this index contains at least one element equal to the given value.
+   *
+   * @param value the value to look for.
+   * @return {@code true} if this index contains at least one element equal to the given value.
+   */
+  public boolean contains(Object value) {
+    return groupOf(value) != null;
+  }
+
+  /**
+   * Returns the number of elements of this index equal to the given value.
+   *
+   * @param value the value to look for.
+   * @return the number of elements of this index equal to the given value.
+   */
+  public int count(Object value) {
+    List<Object> group = groupOf(value);
+    return group == null ? 0 : group.size();
+  }
+
+  /**
+   * Removes all the elements equal to the given value from this index.
+   *
+   * @param value the value to look for.
+   * @return the removed elements in the order they were added, an empty list if there were none.
+   */
+  public List<Object> removeAll(Object value) {
+    List<Object> group = removeGroup(value);
+    return group == null ? emptyList() : group;
+  }
+
+  /**
+   * Returns the group of elements equal to the given value, {@code null} if there is none.
+   */
+  abstract List<Object> groupOf(Object value);
+
+  abstract void putGroup(Object element, List<Object> group);
+
+  /**
+   * Removes and returns the group of elements equal to the given value, {@code null} if there is none.
+   */
+  abstract List<Object> removeGroup(Object value);
+
+  /**
+   * Computes hash codes consistent with a comparison strategy: objects equal according to the strategy must have the
+   * same hash code.
+   */
+  interface Hasher {
+
+    /**
+     * Returns a hash code for the given object.
+     *
+     * @param o the object to hash, may be {@code null}.
+     * @return a hash code for the given object.
+     */
+    int hashCodeFor(Object o);
+  }
+
+  /**
+   * Groups elements by the hash code the {@link Hasher} of their comparison strategy computes.
+   */
+  private static class HashingElementIndex extends ElementIndex {
+
+    private final Map<HashedElement, List<Object>> groups = new HashMap<HashedElement, List<Object>>();
+    private final Hasher hasher;
+
+    HashingElementIndex(ComparisonStrategy comparisonStrategy, Hasher hasher) {
+      super(comparisonStrategy);
+      this.hasher = hasher;
+    }
+
+    @Override
+    List<Object> groupOf(Object value) {
+      return groups.get(new HashedElement(value));
+    }
+
+    @Override
+    void putGroup(Object element, List<Object> group) {
+      groups.put(new HashedElement(element), group);
+    }
+
+    @Override
+    List<Object> removeGroup(Object value) {
+      return groups.remove(new HashedElement(value));
+    }
+
+    private class HashedElement {
+
+      private final Object element;
+      private final int hash;
+
+      HashedElement(Object element) {
+        this.element = element;
+        this.hash = hasher.hashCodeFor(element);
+      }
+
+      @Override
+      public int hashCode() {
+        return hash;
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof HashedElement)) return false;
+        // HashMap calls lookupKey.equals(indexedKey), compare as iterableContains(indexed, value) would.
+        return comparisonStrategy.areEqual(((HashedElement) obj).element, element);
+      }
+    }
+  }
+
+  /**
+   * Keeps elements sorted with the comparator of a {@link ComparatorBasedComparisonStrategy}, {@code null} elements are
+   * grouped apart since comparators are not required to support them.
+   */
+  private static class SortingElementIndex extends ElementIndex {
+
+    private final TreeMap<Object, List<Object>> groups;
+    private List<Object> nullGroup;
+
+    @SuppressWarnings("unchecked")
+    SortingElementIndex(ComparatorBasedComparisonStrategy comparisonStrategy) {
+      super(comparisonStrategy);
+      groups = new TreeMap<Object, List<Object>>((Comparator<Object>) comparisonStrategy.getComparator());
+    }
+
+    @Override
+    List<Object> groupOf(Object value) {
+      return value == null ? nullGroup : groups.get(value);
+    }
+
+    @Override
+    void putGroup(Object element, List<Object> group) {
+      if (element == null) nullGroup = group;
+      else groups.put(element, group);
+    }
+
+    @Override
+    List<Object> removeGroup(Object value) {
+      if (value != null) return groups.remove(value);
+      List<Object> group = nullGroup;
+      nullGroup = null;
+      return group;
+    }
+  }
+
+  /**
+   * Compares the looked up value to each group of elements in turn, used for comparison strategies that can neither
+   * hash nor sort elements.
+   */
+  private static class ScanningElementIndex extends ElementIndex {
+
+    private final List<List<Object>> groups = new ArrayList<List<Object>>();
+
+    ScanningElementIndex(ComparisonStrategy comparisonStrategy) {
+      super(comparisonStrategy);
+    }
+
+    @Override
+    List<Object> groupOf(Object value) {
+      for (List<Object> group : groups) {
+        if (comparisonStrategy.areEqual(group.get(0), value)) return group;
+      }
+      return null;
+    }
+
+    @Override
+    void putGroup(Object element, List<Object> group) {
+      groups.add(group);
+    }
+
+    @Override
+    List<Object> removeGroup(Object value) {
+      Iterator<List<Object>> iterator = groups.iterator();
+      while (iterator.hasNext()) {
+        List<Object> group = iterator.next();
+        if (comparisonStrategy.areEqual(group.get(0), value)) {
+          iterator.remove();
+          return group;
+        }
+      }
+      return null;
+    }
+  }
+}
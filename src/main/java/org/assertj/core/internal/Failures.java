@@ -19,8 +19,8 @@ import static org.assertj.core.util.Strings.isNullOrEmpty;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorFactory;
+import org.assertj.core.error.ComparisonFailureFactory;
 import org.assertj.core.error.ErrorMessageFactory;
-import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
 import org.assertj.core.util.Throwables;
 import org.assertj.core.util.VisibleForTesting;
@@ -57,6 +57,27 @@ public class Failures {
     this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * factory of the errors reported when two objects are not equal, null to create JUnit's ComparisonFailure.
+   */
+  private volatile ComparisonFailureFactory comparisonFailureFactory;
+
+  /**
+   * Sets the factory used to create the error reported when two objects are not equal.
+   * @param comparisonFailureFactory the factory to use, {@code null} to create JUnit's {@code ComparisonFailure}.
+   */
+  public void setComparisonFailureFactory(ComparisonFailureFactory comparisonFailureFactory) {
+    this.comparisonFailureFactory = comparisonFailureFactory;
+  }
+
+  /**
+   * Returns the factory used to create the error reported when two objects are not equal.
+   * @return the factory to use, {@code null} to create JUnit's {@code ComparisonFailure}.
+   */
+  public ComparisonFailureFactory comparisonFailureFactory() {
+    return comparisonFailureFactory;
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -87,6 +108,7 @@ public class Failures {
    * <code>{@link AssertionError}</code>, prepending the value of <code>{@link AssertionInfo#description()}</code> to the error
    * message</li>
    * </ol>
+   * The detail message and the filtered stack trace of the returned error are only computed when first requested.
    * @param info contains information about the failed assertion.
    * @param message knows how to create detail messages for {@code AssertionError}s.
    * @return the created <code>{@link AssertionError}</code>.
@@ -94,15 +116,15 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory message) {
     AssertionError error = failureIfErrorMessageIsOverriden(info);
     if (error != null) return error;
-    AssertionError assertionError = new AssertionError(message.create(info.description(), info.representation()));
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
-    return assertionError;
+    return LazyAssertionError.failure(message, info.description(), info.representation(),
+                                      removeAssertJRelatedElementsFromStackTrace);
   }
 
   private AssertionError failureIfErrorMessageIsOverriden(AssertionInfo info) {
     String overridingErrorMessage = info.overridingErrorMessage();
-    return isNullOrEmpty(overridingErrorMessage) ? null : failure(MessageFormatter.instance().format(info.description(),
-        info.representation(), overridingErrorMessage));
+    return isNullOrEmpty(overridingErrorMessage) ? null
+        : LazyAssertionError.failure(overridingErrorMessage, info.description(), info.representation(),
+                                     removeAssertJRelatedElementsFromStackTrace);
   }
 
   /**
@@ -114,9 +136,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(String message) {
-    AssertionError assertionError = new AssertionError(message);
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
-    return assertionError;
+    return new LazyAssertionError(message, removeAssertJRelatedElementsFromStackTrace);
   }
 
 /**
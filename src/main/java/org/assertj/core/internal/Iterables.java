@@ -14,6 +14,9 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.newSetFromMap;
+
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
 import static org.assertj.core.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
@@ -47,15 +50,16 @@ import static org.assertj.core.internal.CommonValidations.checkIsNotNullAndNotEm
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.ElementIndex.newIndex;
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
 import static org.assertj.core.util.Iterables.sizeOf;
 import static org.assertj.core.util.Lists.*;
 
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
@@ -80,6 +84,8 @@ public class Iterables {
   Failures failures = Failures.instance();
   @VisibleForTesting
   Conditions conditions = Conditions.instance();
+  @VisibleForTesting
+  ConditionEvaluator conditionEvaluator = ConditionEvaluator.instance();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -99,6 +105,21 @@ public class Iterables {
     this.comparisonStrategy = comparisonStrategy;
   }
 
+  /**
+   * Returns an {@link Iterables} comparing elements as this one does but evaluating conditions with the given
+   * {@link ConditionEvaluator}.
+   * 
+   * @param conditionEvaluator the {@link ConditionEvaluator} to use.
+   * @return an {@link Iterables} evaluating conditions with the given {@link ConditionEvaluator}.
+   */
+  public Iterables withConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+    Iterables iterables = new Iterables(comparisonStrategy);
+    iterables.failures = failures;
+    iterables.conditions = conditions;
+    iterables.conditionEvaluator = conditionEvaluator;
+    return iterables;
+  }
+
   @VisibleForTesting
   public Comparator<?> getComparator() {
     if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
@@ -268,11 +289,21 @@ public class Iterables {
 
   private Set<Object> containsOnly(Set<Object> actual, Object[] values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
+    ElementIndex actualIndex = newIndex(comparisonStrategy, actual);
+    Set<Object> found = newSetFromMap(new IdentityHashMap<Object, Boolean>());
     for (Object o : set(values)) {
-      if (iterableContains(actual, o)) {
-        iterableRemoves(actual, o);
-      } else {
+      List<Object> matches = actualIndex.removeAll(o);
+      if (matches.isEmpty()) {
         notFound.add(o);
+      } else {
+        found.addAll(matches);
+      }
+    }
+    // remove found elements in place so that actual iterates as if they had been removed one by one.
+    Iterator<Object> iterator = actual.iterator();
+    while (iterator.hasNext()) {
+      if (found.contains(iterator.next())) {
+        iterator.remove();
       }
     }
     return notFound;
@@ -288,14 +319,7 @@ public class Iterables {
     if (elements == null) {
       return null;
     }
-    Set<Object> set = new HashSet<Object>();
-    for (Object e : elements) {
-      // only add is not already there
-      if (!iterableContains(set, e)) {
-        set.add(e);
-      }
-    }
-    return set;
+    return setFromIterable(asList(elements));
   }
 
   /**
@@ -309,9 +333,10 @@ public class Iterables {
       return null;
     }
     Set<Object> set = new HashSet<Object>();
+    ElementIndex index = newIndex(comparisonStrategy);
     for (Object e : iterable) {
       // only add is not already there
-      if (!iterableContains(set, e)) {
+      if (index.add(e)) {
         set.add(e);
       }
     }
@@ -496,8 +521,9 @@ public class Iterables {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
     Set<Object> found = new LinkedHashSet<Object>();
+    ElementIndex actualIndex = newIndex(comparisonStrategy, actual);
     for (Object o : values) {
-      if (iterableContains(actual, o)) {
+      if (actualIndex.contains(o)) {
         found.add(o);
       }
     }
@@ -663,7 +689,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> notSatisfiesCondition = notSatisfiesCondition(actual, condition);
+      List<E> notSatisfiesCondition = conditionEvaluator.elementsNotMatching(actual, condition);
       if (notSatisfiesCondition.isEmpty()) {
         return;
       }
@@ -687,7 +713,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = satisfiesCondition(actual, condition);
+      List<E> satisfiesCondition = conditionEvaluator.elementsMatching(actual, condition);
       if (satisfiesCondition.isEmpty()) {
         return;
       }
@@ -711,7 +737,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> notSatisfiesCondition = notSatisfiesCondition(actual, condition);
+      List<E> notSatisfiesCondition = conditionEvaluator.elementsNotMatching(actual, condition);
       if (notSatisfiesCondition.isEmpty()) {
         return;
       }
@@ -735,7 +761,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      List<E> satisfiesCondition = satisfiesCondition(actual, condition);
+      List<E> satisfiesCondition = conditionEvaluator.elementsMatching(actual, condition);
       if (satisfiesCondition.isEmpty()) {
         return;
       }
@@ -762,7 +788,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedAtLeastNTimes(actual, times, condition))
+      if (conditionEvaluator.atLeastNElementsMatch(actual, times, condition))
         return;
       throw failures.failure(info, elementsShouldBeAtLeast(actual, times, condition));
     } catch (ClassCastException e) {
@@ -770,15 +796,6 @@ public class Iterables {
     }
   }
 
-  private <E> boolean conditionIsSatisfiedAtLeastNTimes(Iterable<? extends E> actual, int n,
-      Condition<? super E> condition) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    if (satisfiesCondition.size() >= n) {
-      return true;
-    }
-    return false;
-  }
-
   /**
    * Assert that there is <b>at most</b> <i>n</i> elements in the actual {@code Iterable} satisfying the given
    * condition.
@@ -796,7 +813,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedAtMostNTimes(actual, condition, n))
+      if (conditionEvaluator.atMostNElementsMatch(actual, n, condition))
         return;
       throw failures.failure(info, elementsShouldBeAtMost(actual, n, condition));
     } catch (ClassCastException e) {
@@ -804,12 +821,6 @@ public class Iterables {
     }
   }
 
-  private <E> boolean conditionIsSatisfiedAtMostNTimes(Iterable<? extends E> actual, Condition<? super E> condition,
-      int n) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() <= n;
-  }
-
   /**
    * Verifies that there is <b>exactly</b> <i>n</i> elements in the actual {@code Iterable} satisfying the given
    * condition.
@@ -827,7 +838,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedNTimes(actual, condition, times))
+      if (conditionEvaluator.exactlyNElementsMatch(actual, times, condition))
         return;
       throw failures.failure(info, elementsShouldBeExactly(actual, times, condition));
     } catch (ClassCastException e) {
@@ -835,14 +846,6 @@ public class Iterables {
     }
   }
 
-  private <E> boolean conditionIsSatisfiedNTimes(Iterable<? extends E> actual, Condition<? super E> condition, int times) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    if (satisfiesCondition.size() == times) {
-      return true;
-    }
-    return false;
-  }
-
   /**
    * An alias method of {@link #assertAreAtLeast(AssertionInfo, Iterable, int, Condition)} to provide a richer fluent
    * api (same logic, only error message differs).
@@ -852,7 +855,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedAtLeastNTimes(actual, times, condition))
+      if (conditionEvaluator.atLeastNElementsMatch(actual, times, condition))
         return;
       throw failures.failure(info, elementsShouldHaveAtLeast(actual, times, condition));
     } catch (ClassCastException e) {
@@ -869,7 +872,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedAtMostNTimes(actual, condition, times))
+      if (conditionEvaluator.atMostNElementsMatch(actual, times, condition))
         return;
       throw failures.failure(info, elementsShouldHaveAtMost(actual, times, condition));
     } catch (ClassCastException e) {
@@ -886,7 +889,7 @@ public class Iterables {
     assertNotNull(info, actual);
     conditions.assertIsNotNull(condition);
     try {
-      if (conditionIsSatisfiedNTimes(actual, condition, times))
+      if (conditionEvaluator.exactlyNElementsMatch(actual, times, condition))
         return;
       throw failures.failure(info, elementsShouldHaveExactly(actual, times, condition));
     } catch (ClassCastException e) {
@@ -952,26 +955,6 @@ public class Iterables {
     return failures.failure(info, shouldEndWith(actual, sequence, comparisonStrategy));
   }
 
-  private <E> List<E> notSatisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    List<E> notSatisfiesCondition = new LinkedList<E>();
-    for (E o : actual) {
-      if (!condition.matches(o)) {
-        notSatisfiesCondition.add(o);
-      }
-    }
-    return notSatisfiesCondition;
-  }
-
-  private <E> List<E> satisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    List<E> satisfiesCondition = new LinkedList<E>();
-    for (E o : actual) {
-      if (condition.matches(o)) {
-        satisfiesCondition.add(o);
-      }
-    }
-    return satisfiesCondition;
-  }
-
   static public NullPointerException iterableToLookForIsNull() {
     return new NullPointerException("The iterable to look for should not be null");
   }
@@ -27,7 +27,8 @@ class JavaBeanDescriptor {
 
   Object invokeReadMethod(PropertyDescriptor d, Object o) throws IllegalAccessException, InvocationTargetException {
     Method readMethod = d.getReadMethod();
-    readMethod.setAccessible(true);
+    // descriptors come from Accessors which already made their read method accessible, avoid doing it on each read
+    if (!readMethod.isAccessible()) readMethod.setAccessible(true);
     return readMethod.invoke(o);
   }
 }
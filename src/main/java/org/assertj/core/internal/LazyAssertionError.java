@@ -0,0 +1,138 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.ObjectStreamException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.MessageFormatter;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.Throwables;
+
+/**
+ * {@link AssertionError} created by {@link Failures} that only keeps what is needed to build its message and filter its
+ * stack trace, both are computed the first time they are requested since many errors are never reported (soft
+ * assertions, conditions checked to know whether they are met, ...).
+ * <p>
+ * As the message is built from the values given at failure time, it must be requested before they can change: errors
+ * collected by soft assertions get their message as soon as they are collected.
+ */
+class LazyAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient ErrorMessageFactory messageFactory;
+  private transient String messageFormat;
+  private transient Description description;
+  private transient Representation representation;
+  private volatile String message;
+  private boolean stackTraceToFilter;
+
+  /**
+   * Creates an error whose message is built by the given {@link ErrorMessageFactory}.
+   */
+  static LazyAssertionError failure(ErrorMessageFactory messageFactory, Description description,
+                                    Representation representation, boolean filterStackTrace) {
+    LazyAssertionError error = new LazyAssertionError(null, filterStackTrace);
+    error.messageFactory = messageFactory;
+    error.description = description;
+    error.representation = representation;
+    return error;
+  }
+
+  /**
+   * Creates an error whose message is the given format formatted by {@link MessageFormatter}.
+   */
+  static LazyAssertionError failure(String messageFormat, Description description, Representation representation,
+                                    boolean filterStackTrace) {
+    LazyAssertionError error = new LazyAssertionError(null, filterStackTrace);
+    error.messageFormat = messageFormat;
+    error.description = description;
+    error.representation = representation;
+    return error;
+  }
+
+  LazyAssertionError(String message, boolean filterStackTrace) {
+    this.message = message;
+    this.stackTraceToFilter = filterStackTrace;
+  }
+
+  @Override
+  public String getMessage() {
+    String result = message;
+    if (result == null && (messageFactory != null || messageFormat != null)) {
+      result = messageFactory != null ? messageFactory.create(description, representation)
+          : MessageFormatter.instance().format(description, representation, messageFormat);
+      message = result;
+    }
+    return result;
+  }
+
+  /**
+   * Reports this error as a plain {@link AssertionError}, as it was before messages were built lazily.
+   */
+  @Override
+  public String toString() {
+    String message = getLocalizedMessage();
+    String name = AssertionError.class.getName();
+    return message == null ? name : name + ": " + message;
+  }
+
+  @Override
+  public StackTraceElement[] getStackTrace() {
+    filterStackTraceIfNeeded();
+    return super.getStackTrace();
+  }
+
+  @Override
+  public synchronized void setStackTrace(StackTraceElement[] stackTrace) {
+    stackTraceToFilter = false;
+    super.setStackTrace(stackTrace);
+  }
+
+  @Override
+  public void printStackTrace(PrintStream s) {
+    filterStackTraceIfNeeded();
+    super.printStackTrace(s);
+  }
+
+  @Override
+  public void printStackTrace(PrintWriter s) {
+    filterStackTraceIfNeeded();
+    super.printStackTrace(s);
+  }
+
+  private synchronized void filterStackTraceIfNeeded() {
+    if (!stackTraceToFilter) return;
+    // reset first as filtering reads the stack trace through getStackTrace()
+    stackTraceToFilter = false;
+    Throwables.removeAssertJRelatedElementsFromStackTrace(this);
+  }
+
+  /**
+   * Serializes a plain {@link AssertionError} with the computed message and stack trace, the values used to build the
+   * message may not be serializable.
+   */
+  private Object writeReplace() throws ObjectStreamException {
+    String message = getMessage();
+    AssertionError error = message == null ? new AssertionError() : new AssertionError(message);
+    error.setStackTrace(getStackTrace());
+    if (getCause() != null) error.initCause(getCause());
+    return error;
+  }
+}
@@ -54,6 +54,21 @@ public class ObjectArrays {
     this.arrays = new Arrays(comparisonStrategy);
   }
 
+  /**
+   * Returns an {@link ObjectArrays} comparing elements as this one does but evaluating conditions with the given
+   * {@link ConditionEvaluator}.
+   * 
+   * @param conditionEvaluator the {@link ConditionEvaluator} to use.
+   * @return an {@link ObjectArrays} evaluating conditions with the given {@link ConditionEvaluator}.
+   */
+  public ObjectArrays withConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+    ObjectArrays objectArrays = new ObjectArrays();
+    objectArrays.arrays = arrays.withConditionEvaluator(conditionEvaluator);
+    objectArrays.failures = failures;
+    objectArrays.conditions = conditions;
+    return objectArrays;
+  }
+
   @VisibleForTesting
   public Comparator<?> getComparator() {
     return arrays.getComparator();
@@ -0,0 +1,218 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Condition;
+
+/**
+ * {@link ConditionEvaluator} splitting the elements of a group in chunks whose elements are evaluated concurrently by
+ * an {@link ExecutorService}, for conditions expensive enough to be worth it.
+ * <p>
+ * Chunk results are merged in iteration order: the elements reported, the exception thrown by a condition and whether
+ * an element count is reached are the same as when elements are evaluated one after the other. The calling thread
+ * evaluates the first chunk itself, then the chunks no executor thread has started yet instead of waiting for them, so
+ * that a condition evaluating elements in parallel itself cannot deadlock when all executor threads are busy; chunks
+ * still running once the result is known stop evaluating their elements.
+ */
+public class ParallelConditionEvaluator extends ConditionEvaluator {
+
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  // more chunks than threads so that threads evaluating cheaper chunks are not left idle
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final ExecutorService executor;
+
+  /**
+   * Creates a {@link ParallelConditionEvaluator} evaluating conditions with a shared executor using as many daemon
+   * threads as there are available processors.
+   */
+  public ParallelConditionEvaluator() {
+    this(DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Creates a {@link ParallelConditionEvaluator} evaluating conditions with the given executor.
+   * 
+   * @param executor the executor evaluating chunks of elements.
+   * @throws NullPointerException if the given executor is {@code null}.
+   */
+  public ParallelConditionEvaluator(ExecutorService executor) {
+    if (executor == null) throw new NullPointerException("The executor evaluating conditions should not be null");
+    this.executor = executor;
+  }
+
+  @Override
+  public <E> List<E> elementsMatching(Iterable<? extends E> elements, Condition<? super E> condition) {
+    return elementsWhoseMatchIs(true, elements, condition);
+  }
+
+  @Override
+  public <E> List<E> elementsNotMatching(Iterable<? extends E> elements, Condition<? super E> condition) {
+    return elementsWhoseMatchIs(false, elements, condition);
+  }
+
+  private <E> List<E> elementsWhoseMatchIs(final boolean match, Iterable<? extends E> elements,
+      final Condition<? super E> condition) {
+    List<List<E>> chunks = chunksOf(elements);
+    final AtomicBoolean done = new AtomicBoolean();
+    List<Callable<List<E>>> tasks = new ArrayList<Callable<List<E>>>(chunks.size());
+    for (final List<E> chunk : chunks) {
+      tasks.add(new Callable<List<E>>() {
+        @Override
+        public List<E> call() {
+          List<E> elementsWhoseMatchIs = new ArrayList<E>();
+          for (E element : chunk) {
+            if (done.get()) break;
+            if (condition.matches(element) == match) elementsWhoseMatchIs.add(element);
+          }
+          return elementsWhoseMatchIs;
+        }
+      });
+    }
+    List<FutureTask<List<E>>> futures = submitAllButFirst(tasks);
+    try {
+      List<E> elementsWhoseMatchIs = new ArrayList<E>(tasks.get(0).call());
+      for (FutureTask<List<E>> future : futures) {
+        elementsWhoseMatchIs.addAll(resultOf(future));
+      }
+      return elementsWhoseMatchIs;
+    } catch (Exception e) {
+      throw propagate(e);
+    } finally {
+      done.set(true);
+    }
+  }
+
+  @Override
+  protected <E> int countElementsMatching(Iterable<? extends E> elements, final Condition<? super E> condition,
+      final int limit) {
+    List<List<E>> chunks = chunksOf(elements);
+    final AtomicBoolean done = new AtomicBoolean();
+    List<Callable<ChunkCount>> tasks = new ArrayList<Callable<ChunkCount>>(chunks.size());
+    for (final List<E> chunk : chunks) {
+      tasks.add(new Callable<ChunkCount>() {
+        @Override
+        public ChunkCount call() {
+          // a chunk is not evaluated further than needed to reach the limit on its own
+          ChunkCount chunkCount = new ChunkCount();
+          try {
+            for (E element : chunk) {
+              if (chunkCount.count >= limit || done.get()) break;
+              if (condition.matches(element)) chunkCount.count++;
+            }
+          } catch (RuntimeException e) {
+            chunkCount.failure = e;
+          } catch (Error e) {
+            chunkCount.failure = e;
+          }
+          return chunkCount;
+        }
+      });
+    }
+    List<FutureTask<ChunkCount>> futures = submitAllButFirst(tasks);
+    try {
+      // matches found before the failing element of a chunk may reach the limit as if elements were evaluated in order
+      int count = tasks.get(0).call().addTo(0, limit);
+      for (int i = 0; i < futures.size() && count < limit; i++) {
+        count = resultOf(futures.get(i)).addTo(count, limit);
+      }
+      return count;
+    } catch (Exception e) {
+      throw propagate(e);
+    } finally {
+      done.set(true);
+    }
+  }
+
+  private <E> List<List<E>> chunksOf(Iterable<? extends E> elements) {
+    List<E> list = new ArrayList<E>();
+    for (E element : elements) {
+      list.add(element);
+    }
+    int numberOfChunks = Math.max(1, Math.min(list.size(), PARALLELISM * CHUNKS_PER_THREAD));
+    List<List<E>> chunks = new ArrayList<List<E>>(numberOfChunks);
+    for (int i = 0; i < numberOfChunks; i++) {
+      chunks.add(list.subList(i * list.size() / numberOfChunks, (i + 1) * list.size() / numberOfChunks));
+    }
+    return chunks;
+  }
+
+  private <T> List<FutureTask<T>> submitAllButFirst(List<Callable<T>> tasks) {
+    List<FutureTask<T>> futures = new ArrayList<FutureTask<T>>(tasks.size() - 1);
+    for (Callable<T> task : tasks.subList(1, tasks.size())) {
+      FutureTask<T> future = new FutureTask<T>(task);
+      executor.execute(future);
+      futures.add(future);
+    }
+    return futures;
+  }
+
+  private static <T> T resultOf(FutureTask<T> future) throws Exception {
+    // does nothing if an executor thread has already started the chunk, it is then only waited for while it progresses
+    future.run();
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) throw (Error) cause;
+      throw (Exception) cause;
+    }
+  }
+
+  private static RuntimeException propagate(Exception e) {
+    if (e instanceof RuntimeException) return (RuntimeException) e;
+    if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+    return new IllegalStateException("Unable to evaluate condition on all elements", e);
+  }
+
+  private static class ChunkCount {
+    private int count;
+    private Throwable failure;
+
+    int addTo(int countOfPreviousChunks, int limit) {
+      int total = countOfPreviousChunks + count;
+      if (total >= limit || failure == null) return Math.min(total, limit);
+      if (failure instanceof Error) throw (Error) failure;
+      throw (RuntimeException) failure;
+    }
+  }
+
+  // holder class so that the threads are only created when needed
+  private static class DefaultExecutor {
+
+    private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(PARALLELISM, new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "assertj-condition-evaluator-" + threadNumber.incrementAndGet());
+        // don't prevent the JVM from exiting once tests are done
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+}
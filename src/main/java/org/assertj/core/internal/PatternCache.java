@@ -0,0 +1,178 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Bounded cache of compiled {@link Pattern}s keyed by regular expression and flags, so that assertions applying the
+ * same regular expressions to many values don't compile them again each time.
+ * <p>
+ * Looking up a cached pattern takes no lock. When the cache is full, adding a pattern evicts the least recently used
+ * one. Recency is tracked with a counter rather than an access ordered list, scanning the cache to evict a pattern is
+ * cheap compared to compiling the one replacing it.
+ * <p>
+ * Hit and miss counts are kept to tell whether the cache is large enough for the regular expressions in use.
+ */
+public class PatternCache {
+
+  @VisibleForTesting
+  static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+  private static final PatternCache INSTANCE = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+  /**
+   * Returns the singleton instance of this class, caching up to 256 patterns.
+   * 
+   * @return the singleton instance of this class.
+   */
+  public static PatternCache instance() {
+    return INSTANCE;
+  }
+
+  private final int maximumSize;
+  private final ConcurrentMap<Key, CachedPattern> patterns = new ConcurrentHashMap<Key, CachedPattern>();
+  private final AtomicLong accessClock = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  @VisibleForTesting
+  PatternCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Returns the given regular expression compiled without flags, as {@link Pattern#compile(String)} does.
+   * 
+   * @param regex the regular expression to compile.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is not valid.
+   */
+  public Pattern compile(String regex) {
+    return compile(regex, 0);
+  }
+
+  /**
+   * Returns the given regular expression compiled with the given flags, as {@link Pattern#compile(String, int)} does.
+   * 
+   * @param regex the regular expression to compile.
+   * @param flags the match flags, a bit mask of {@link Pattern} flags.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is not valid.
+   */
+  public Pattern compile(String regex, int flags) {
+    Key key = new Key(regex, flags);
+    CachedPattern cachedPattern = patterns.get(key);
+    if (cachedPattern != null) {
+      hitCount.incrementAndGet();
+      cachedPattern.lastAccess = accessClock.incrementAndGet();
+      return cachedPattern.pattern;
+    }
+    missCount.incrementAndGet();
+    Pattern pattern = Pattern.compile(regex, flags);
+    CachedPattern alreadyCached = patterns.putIfAbsent(key, new CachedPattern(pattern, accessClock.incrementAndGet()));
+    if (alreadyCached != null) return alreadyCached.pattern;
+    if (patterns.size() > maximumSize) evictLeastRecentlyUsedPatterns();
+    return pattern;
+  }
+
+  private synchronized void evictLeastRecentlyUsedPatterns() {
+    while (patterns.size() > maximumSize) {
+      Map.Entry<Key, CachedPattern> leastRecentlyUsed = null;
+      for (Map.Entry<Key, CachedPattern> entry : patterns.entrySet()) {
+        if (leastRecentlyUsed == null || entry.getValue().lastAccess < leastRecentlyUsed.getValue().lastAccess) {
+          leastRecentlyUsed = entry;
+        }
+      }
+      if (leastRecentlyUsed == null) return;
+      patterns.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+    }
+  }
+
+  /**
+   * Returns the number of patterns found in this cache since it was created or last cleared.
+   * 
+   * @return the number of patterns found in this cache.
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of patterns that had to be compiled since this cache was created or last cleared.
+   * 
+   * @return the number of patterns that had to be compiled.
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the number of patterns currently cached.
+   * 
+   * @return the number of patterns currently cached.
+   */
+  public int size() {
+    return patterns.size();
+  }
+
+  /**
+   * Removes all the cached patterns and resets the hit and miss counts.
+   */
+  public void clear() {
+    patterns.clear();
+    hitCount.set(0);
+    missCount.set(0);
+  }
+
+  private static class Key {
+    private final String regex;
+    private final int flags;
+
+    Key(String regex, int flags) {
+      this.regex = regex;
+      this.flags = flags;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * regex.hashCode() + flags;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return flags == other.flags && regex.equals(other.regex);
+    }
+  }
+
+  private static class CachedPattern {
+    private final Pattern pattern;
+    private volatile long lastAccess;
+
+    CachedPattern(Pattern pattern, long lastAccess) {
+      this.pattern = pattern;
+      this.lastAccess = lastAccess;
+    }
+  }
+}
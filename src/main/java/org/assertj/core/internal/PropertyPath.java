@@ -0,0 +1,100 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.internal.PropertySupport.isNestedProperty;
+import static org.assertj.core.internal.PropertySupport.nextPropertyNameFrom;
+import static org.assertj.core.internal.PropertySupport.popPropertyNameFrom;
+import static org.assertj.core.util.introspection.Introspection.getProperty;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * A property name, possibly nested (e.g. "address.street.number"), split once and whose getters are looked up once per
+ * class, to read the same property from many objects as {@link PropertySupport#propertyValueOf(String, Class, Object)}
+ * does.
+ * <p>
+ * Instances remember the class read last by each nested property and are therefore not thread safe.
+ */
+public final class PropertyPath {
+
+  private final PropertySupport propertySupport;
+  private final Segment[] segments;
+
+  /**
+   * Creates a {@link PropertyPath} for the given property name.
+   * 
+   * @param propertyName the name of the property. It may be a nested property. It is left to the clients to validate for
+   *          {@code null} or empty.
+   * @return the created {@link PropertyPath}.
+   */
+  public static PropertyPath propertyPath(String propertyName) {
+    return new PropertyPath(PropertySupport.instance(), propertyName);
+  }
+
+  PropertyPath(PropertySupport propertySupport, String propertyName) {
+    this.propertySupport = propertySupport;
+    List<Segment> segments = new ArrayList<Segment>();
+    String remainingPropertyName = propertyName;
+    while (isNestedProperty(remainingPropertyName)) {
+      segments.add(new Segment(popPropertyNameFrom(remainingPropertyName)));
+      remainingPropertyName = nextPropertyNameFrom(remainingPropertyName);
+    }
+    segments.add(new Segment(remainingPropertyName));
+    this.segments = segments.toArray(new Segment[segments.size()]);
+  }
+
+  /**
+   * Returns the value of this property in the given target, {@code null} if the target or one of the nested properties
+   * leading to it is {@code null}.
+   * 
+   * @param clazz the class of property.
+   * @param target the given Object to extract property from.
+   * @return the value of this property in the given target.
+   * @throws IntrospectionError if target object does not have a property with a matching name.
+   */
+  public <T> T valueOf(Class<T> clazz, Object target) {
+    Object value = target;
+    int last = segments.length - 1;
+    for (int i = 0; i < last && value != null; i++) {
+      value = propertySupport.propertyValue(segments[i].descriptorFor(value), Object.class, value);
+    }
+    if (value == null) return null;
+    return propertySupport.propertyValue(segments[last].descriptorFor(value), clazz, value);
+  }
+
+  private static class Segment {
+
+    private final String propertyName;
+    private Class<?> type;
+    private PropertyDescriptor descriptor;
+
+    Segment(String propertyName) {
+      this.propertyName = propertyName;
+    }
+
+    PropertyDescriptor descriptorFor(Object target) {
+      if (target.getClass() != type) {
+        descriptor = getProperty(propertyName, target);
+        type = target.getClass();
+      }
+      return descriptor;
+    }
+  }
+}
@@ -103,14 +103,14 @@ public class PropertySupport {
     return unmodifiableList(propertyValues);
   }
 
-  private String popPropertyNameFrom(String propertyNameChain) {
+  static String popPropertyNameFrom(String propertyNameChain) {
     if (!isNestedProperty(propertyNameChain)) {
       return propertyNameChain;
     }
     return propertyNameChain.substring(0, propertyNameChain.indexOf(SEPARATOR));
   }
 
-  private String nextPropertyNameFrom(String propertyNameChain) {
+  static String nextPropertyNameFrom(String propertyNameChain) {
     if (!isNestedProperty(propertyNameChain)) {
       return "";
     }
@@ -130,7 +130,7 @@ public class PropertySupport {
    * isNestedProperty(""); // false
    * </pre>
    */
-  private boolean isNestedProperty(String propertyName) {
+  static boolean isNestedProperty(String propertyName) {
     return propertyName.contains(SEPARATOR) && !propertyName.startsWith(SEPARATOR) && !propertyName.endsWith(SEPARATOR);
   }
 
@@ -144,7 +144,15 @@ public class PropertySupport {
    * @throws IntrospectionError if the given target does not have a property with a matching name.
    */
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
-    PropertyDescriptor descriptor = getProperty(propertyName, target);
+    return propertyValue(getProperty(propertyName, target), clazz, target);
+  }
+
+  /**
+   * Return the value of the property described by the given descriptor from a target object, for callers which have
+   * already looked the property up.
+   */
+  <T> T propertyValue(PropertyDescriptor descriptor, Class<T> clazz, Object target) {
+    String propertyName = descriptor.getName();
     try {
       return clazz.cast(javaBeanDescriptor.invokeReadMethod(descriptor, target));
     } catch (ClassCastException e) {
@@ -17,10 +17,8 @@ package org.assertj.core.internal;
 
 import static java.lang.String.format;
 
-import java.util.Comparator;
+import java.lang.reflect.Array;
 import java.util.Iterator;
-import java.util.Set;
-import java.util.TreeSet;
 
 import org.assertj.core.util.Objects;
 
@@ -35,6 +33,22 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   private static final StandardComparisonStrategy INSTANCE = new StandardComparisonStrategy();
 
+  /**
+   * Hashes objects consistently with {@link Objects#areEqual(Object, Object)}, arrays (including primitive ones) are
+   * hashed element by element since they are compared that way.
+   */
+  static final ElementIndex.Hasher STANDARD_HASHER = new ElementIndex.Hasher() {
+    @Override
+    public int hashCodeFor(Object o) {
+      if (o == null || !o.getClass().isArray()) return Objects.hashCodeFor(o);
+      int hash = 1;
+      for (int i = 0; i < Array.getLength(o); i++) {
+        hash = Objects.HASH_CODE_PRIME * hash + hashCodeFor(Array.get(o, i));
+      }
+      return hash;
+    }
+  };
+
   /**
    * Returns the singleton instance of this class.
    * 
@@ -52,25 +66,20 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     // empty
   }
 
-  @Override
-  protected Set<Object> newSetUsingComparisonStrategy() {
-    // define a comparator so that we can use areEqual to compare objects in Set collections
-    // the "less than" comparison does not make much sense here but need to be defined.
-    return new TreeSet<Object>(
-                               new Comparator<Object>() {
-                                 @Override
-                                 public int compare(Object o1, Object o2) {
-                                   if (areEqual(o1, o2)) return 0;
-                                   return Objects.hashCodeFor(o1) < Objects.hashCodeFor(o2) ? -1 : 1;
-                                 }
-                               });
-  }
-
     @Override
     public String asText() {
         return "";
     }
 
+  /**
+   * Returns {@link #STANDARD_HASHER} for this class only: subclasses usually override {@link #areEqual(Object, Object)}
+   * and must provide their own hasher accordingly.
+   */
+  @Override
+  ElementIndex.Hasher hasher() {
+    return getClass() == StandardComparisonStrategy.class ? STANDARD_HASHER : null;
+  }
+
     /**
    * Returns true if actual and other are equal based on {@link Objects#areEqual(Object, Object)}, false otherwise.
    * 
@@ -125,6 +134,8 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
   /**
    * Returns any duplicate elements from the given collection according to {@link Objects#areEqual(Object, Object)} comparison
    * strategy.
+   * <p>
+   * Elements are counted in a hash based multiset, this takes O(n) expected time.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
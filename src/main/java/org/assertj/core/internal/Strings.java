@@ -58,6 +58,8 @@ public class Strings {
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
+  @VisibleForTesting
+  PatternCache patternCache = PatternCache.instance();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -197,12 +199,7 @@ public class Strings {
     checkIsNotNull(values);
     checkIsNotEmpty(values);
     checkCharSequenceIsNotNull(values[0]);
-    Set<CharSequence> notFound = new LinkedHashSet<CharSequence>();
-    for (CharSequence value : values) {
-      if (!stringContains(actual, value)) {
-        notFound.add(value);
-      }
-    }
+    Set<CharSequence> notFound = notFound(actual, values, indexesOf(actual, values));
     if (notFound.isEmpty())
       return;
     if (notFound.size() == 1 && values.length == 1) {
@@ -223,6 +220,26 @@ public class Strings {
     }
   }
 
+  /**
+   * Returns the index of the first occurrence of each of the given values in actual when they are compared with the
+   * standard comparison strategy, all values being searched in a single pass; returns {@code null} with other
+   * comparison strategies, which only know if a value is contained.
+   */
+  private int[] indexesOf(CharSequence actual, CharSequence[] values) {
+    if (!(comparisonStrategy instanceof StandardComparisonStrategy)) return null;
+    return new SubstringMatcher(values, false).firstIndexesIn(actual);
+  }
+
+  private Set<CharSequence> notFound(CharSequence actual, CharSequence[] values, int[] indexes) {
+    Set<CharSequence> notFound = new LinkedHashSet<CharSequence>();
+    for (int i = 0; i < values.length; i++) {
+      if (indexes == null ? !stringContains(actual, values[i]) : indexes[i] < 0) {
+        notFound.add(values[i]);
+      }
+    }
+    return notFound;
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#stringContains(String, String)}
    */
@@ -243,7 +260,7 @@ public class Strings {
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
-    if (actual.toString().toLowerCase().contains(sequence.toString().toLowerCase())) {
+    if (new SubstringMatcher(new CharSequence[] { sequence }, true).firstIndexesIn(actual)[0] >= 0) {
       return;
     }
     throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
@@ -392,7 +409,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) {
+    if (matches(actual, regex)) {
       return;
     }
     throw failures.failure(info, shouldMatch(actual, regex));
@@ -412,7 +429,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) {
+    if (!matches(actual, regex)) {
       return;
     }
     throw failures.failure(info, shouldNotMatch(actual, regex));
@@ -460,6 +477,10 @@ public class Strings {
     throw failures.failure(info, shouldNotMatch(actual, pattern.pattern()));
   }
 
+  private boolean matches(CharSequence actual, CharSequence regex) {
+    return patternCache.compile(regex.toString()).matcher(actual).matches();
+  }
+
   private void checkIsNotNull(Pattern pattern) {
     if (pattern == null) {
       throw patternToMatchIsNull();
@@ -479,20 +500,23 @@ public class Strings {
     checkIsNotNull(values);
     checkIsNotEmpty(values);
     checkCharSequenceIsNotNull(values[0]);
-    Set<CharSequence> notFound = new LinkedHashSet<CharSequence>();
-    for (CharSequence value : values) {
-      if (!stringContains(actual, value))
-        notFound.add(value);
-    }
+    int[] indexes = indexesOf(actual, values);
+    Set<CharSequence> notFound = notFound(actual, values, indexes);
     if (notFound.isEmpty()) {
       if (values.length == 1) {
         // nothing to check, assertion succeeded.
         return;
       }
       // we have found all the given values but were they in the correct order ?
-      String strActual = actual.toString();
+      if (indexes == null) {
+        String strActual = actual.toString();
+        indexes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+          indexes[i] = strActual.indexOf(values[i].toString());
+        }
+      }
       for (int i = 1; i < values.length; i++) {
-        if (strActual.indexOf(values[i - 1].toString()) > strActual.indexOf(values[i].toString())) {
+        if (indexes[i - 1] > indexes[i]) {
           throw failures.failure(info, shouldContainSequence(actual, values, i - 1, comparisonStrategy));
         }
       }
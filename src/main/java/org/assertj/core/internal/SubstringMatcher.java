@@ -0,0 +1,229 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+
+import java.util.Arrays;
+
+/**
+ * Finds the first occurrence of several sequences in a text in a single pass over it, using the Aho-Corasick algorithm:
+ * sequences are stored in a trie whose nodes know the longest suffix of their prefix that is also a prefix of some
+ * sequence, so that the text never has to be read again after a mismatch.
+ * <p>
+ * When ignoring case, characters are compared as {@link String#equalsIgnoreCase(String)} does.
+ * <p>
+ * A matcher keeps the state of a search, it is meant to look for its sequences in a single text.
+ */
+final class SubstringMatcher {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final int sequencesCount;
+  private final int[] sequenceLengths;
+  private final boolean ignoringCase;
+  private final Transitions transitions;
+  // for each state : its suffix link, the next state of its suffix links chain ending sequences and its first sequence
+  private final int[] suffixLink;
+  private final int[] outputLink;
+  private final int[] firstSequence;
+  // sequences ending at the same state (duplicates)
+  private final int[] nextSequence;
+  private final int[] pendingSequences;
+  private final int[] firstIndexes;
+  private int remainingSequences;
+
+  SubstringMatcher(CharSequence[] sequences, boolean ignoringCase) {
+    this.ignoringCase = ignoringCase;
+    sequencesCount = sequences.length;
+    sequenceLengths = new int[sequencesCount];
+    nextSequence = new int[sequencesCount];
+    firstIndexes = new int[sequencesCount];
+    int maxStates = 1;
+    for (int i = 0; i < sequencesCount; i++) {
+      sequenceLengths[i] = sequences[i].length();
+      maxStates += sequenceLengths[i];
+    }
+    transitions = new Transitions(maxStates);
+    int[] firstChild = new int[maxStates];
+    int[] nextSibling = new int[maxStates];
+    char[] label = new char[maxStates];
+    firstSequence = new int[maxStates];
+    Arrays.fill(firstChild, NONE);
+    Arrays.fill(firstSequence, NONE);
+    Arrays.fill(firstIndexes, NONE);
+    int statesCount = 1;
+    for (int i = 0; i < sequencesCount; i++) {
+      if (sequenceLengths[i] == 0) {
+        // like String.indexOf, an empty sequence is found at the beginning
+        firstIndexes[i] = 0;
+        continue;
+      }
+      remainingSequences++;
+      int state = ROOT;
+      for (int j = 0; j < sequenceLengths[i]; j++) {
+        char c = fold(sequences[i].charAt(j));
+        int next = transitions.get(state, c);
+        if (next == NONE) {
+          next = statesCount++;
+          transitions.put(state, c, next);
+          label[next] = c;
+          nextSibling[next] = firstChild[state];
+          firstChild[state] = next;
+        }
+        state = next;
+      }
+      nextSequence[i] = firstSequence[state];
+      firstSequence[state] = i;
+    }
+    suffixLink = new int[statesCount];
+    outputLink = new int[statesCount];
+    pendingSequences = new int[statesCount];
+    countPendingSequences(statesCount);
+    linkSuffixes(firstChild, nextSibling, label, statesCount);
+  }
+
+  private void countPendingSequences(int statesCount) {
+    for (int state = 0; state < statesCount; state++) {
+      for (int i = firstSequence[state]; i != NONE; i = nextSequence[i]) {
+        pendingSequences[state]++;
+      }
+    }
+  }
+
+  /**
+   * Computes suffix and output links breadth first, the links of a state being those of shorter states.
+   */
+  private void linkSuffixes(int[] firstChild, int[] nextSibling, char[] label, int statesCount) {
+    int[] queue = new int[statesCount];
+    int head = 0, tail = 0;
+    for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+      suffixLink[child] = ROOT;
+      outputLink[child] = ROOT;
+      queue[tail++] = child;
+    }
+    while (head < tail) {
+      int state = queue[head++];
+      for (int child = firstChild[state]; child != NONE; child = nextSibling[child]) {
+        char c = label[child];
+        int suffix = suffixLink[state];
+        int next;
+        while ((next = transitions.get(suffix, c)) == NONE && suffix != ROOT) {
+          suffix = suffixLink[suffix];
+        }
+        suffixLink[child] = next == NONE ? ROOT : next;
+        int childSuffix = suffixLink[child];
+        outputLink[child] = firstSequence[childSuffix] != NONE ? childSuffix : outputLink[childSuffix];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first occurrence of each sequence in the given text, {@code -1} for sequences that do not
+   * occur.
+   *
+   * @param text the text to search sequences in.
+   * @return the index of the first occurrence of each sequence, in the order sequences were given.
+   */
+  int[] firstIndexesIn(CharSequence text) {
+    int state = ROOT;
+    for (int i = 0; i < text.length() && remainingSequences > 0; i++) {
+      char c = fold(text.charAt(i));
+      int next;
+      while ((next = transitions.get(state, c)) == NONE && state != ROOT) {
+        state = suffixLink[state];
+      }
+      state = next == NONE ? ROOT : next;
+      if (pendingSequences[state] > 0) found(state, i);
+      for (int output = nextPendingOutput(state); output != ROOT; output = nextPendingOutput(output)) {
+        found(output, i);
+      }
+    }
+    return firstIndexes;
+  }
+
+  /**
+   * Returns the next state ending sequences not found yet in the output links chain of the given state, skipping the
+   * states whose sequences have all been found for the next searches.
+   */
+  private int nextPendingOutput(int state) {
+    int output = outputLink[state];
+    while (output != ROOT && pendingSequences[output] == 0) {
+      output = outputLink[output];
+    }
+    outputLink[state] = output;
+    return output;
+  }
+
+  private void found(int state, int endIndex) {
+    for (int i = firstSequence[state]; i != NONE; i = nextSequence[i]) {
+      firstIndexes[i] = endIndex - sequenceLengths[i] + 1;
+      remainingSequences--;
+    }
+    pendingSequences[state] = 0;
+  }
+
+  private char fold(char c) {
+    return ignoringCase ? toLowerCase(toUpperCase(c)) : c;
+  }
+
+  /**
+   * Transitions of the trie in an open addressing hash table keyed by state and character.
+   */
+  private static class Transitions {
+
+    private final long[] keys;
+    private final int[] targets;
+    private final int mask;
+
+    Transitions(int maxStates) {
+      int capacity = Integer.highestOneBit(Math.max(maxStates, 2) * 2 - 1) << 1;
+      keys = new long[capacity];
+      targets = new int[capacity];
+      mask = capacity - 1;
+      Arrays.fill(targets, NONE);
+    }
+
+    int get(int state, char c) {
+      long key = key(state, c);
+      for (int i = slot(key);; i = (i + 1) & mask) {
+        if (targets[i] == NONE) return NONE;
+        if (keys[i] == key) return targets[i];
+      }
+    }
+
+    void put(int state, char c, int target) {
+      long key = key(state, c);
+      int i = slot(key);
+      while (targets[i] != NONE) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      targets[i] = target;
+    }
+
+    private static long key(int state, char c) {
+      return (long) state << 16 | c;
+    }
+
+    private int slot(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> 32) & mask;
+    }
+  }
+}
@@ -21,14 +21,19 @@ import static org.assertj.core.error.ShouldBeXmlComment.shouldBeCommentBut;
 import static org.assertj.core.error.ShouldBeXmlElement.shouldBeElementBut;
 import static org.assertj.core.error.ShouldBeXmlTextNode.shouldBeTextNodeBut;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.error.ShouldBeEmpty;
 import org.assertj.core.error.ShouldBeXml;
+import org.assertj.core.util.FilesException;
 import org.assertj.core.util.Preconditions;
+import org.assertj.core.util.xml.XPathStreamExtractor;
 import org.assertj.core.util.xml.XmlUtil;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -72,6 +77,27 @@ public class Xmls {
     return XmlUtil.nodeList(XmlUtil.toXml(actual.toString()));
   }
 
+  /**
+   * Executes the given xpath query on the streamed xml, failing if the xml is not well formed.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the streamed xml.
+   * @param xpath the xpath query to execute.
+   * @return the nodes selected by the query.
+   * @throws AssertionError if the streamed xml is not well formed.
+   * @throws FilesException if the streamed xml cannot be read.
+   */
+  public NodeList assertXPathOnStream(AssertionInfo info, XPathStreamExtractor actual, String xpath) {
+    try {
+      return actual.extract(xpath);
+    } catch (XMLStreamException e) {
+      // the streamed xml may be huge, it is described rather than quoted
+      throw failures.failure(info, ShouldBeXml.shouldBeWellFormedXml(actual.toString(), e.getMessage()));
+    } catch (IOException e) {
+      throw new FilesException(String.format("Unable to read %s", actual), e);
+    }
+  }
+
   public void assertIsSingleNode(AssertionInfo info, NodeList actual) {
 
     if (actual.getLength() > 1 ){
@@ -150,6 +176,10 @@ public class Xmls {
     return result;
   }
 
+  /**
+   * Compares nodes with {@link XmlUtil#areEqual(Node, Node)}, nodes are hashed by structure so that looking for nodes
+   * among many others does not compare them pairwise.
+   */
   private final class XmlNodesComparisionStrategy extends StandardComparisonStrategy {
     
     public boolean areEqual(Object actual, Object other) {
@@ -162,6 +192,17 @@ public class Xmls {
     
       return super.areEqual(actual, other);
     }
+
+    @Override
+    ElementIndex.Hasher hasher() {
+      return new ElementIndex.Hasher() {
+        @Override
+        public int hashCodeFor(Object element) {
+          return element instanceof Node ? XmlUtil.structuralHashCode((Node) element)
+              : StandardComparisonStrategy.STANDARD_HASHER.hashCodeFor(element);
+        }
+      };
+    }
   }
 
 }
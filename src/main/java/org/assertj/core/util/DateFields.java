@@ -0,0 +1,257 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Computes the calendar fields of dates in the default time zone from their time in milliseconds, giving the same
+ * results as a {@link GregorianCalendar} (including the switch from the Julian calendar) without creating one.
+ * <p>
+ * Dates are first converted to a <i>local time</i>: the number of milliseconds since 1970-01-01T00:00:00 in the default
+ * time zone wall clock, two dates have the same fields down to a given unit if their local times are in the same slot of
+ * that unit. Time zone offsets are cached by hour, the default time zone is only looked up again when it changes.
+ */
+public final class DateFields {
+
+  public static final long MILLIS_PER_SECOND = 1000;
+  public static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+  public static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+  public static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+  // first day of the Gregorian calendar (1582-10-15) as a number of days since 1970-01-01, GregorianCalendar default
+  private static final long GREGORIAN_CUTOVER_DAY = floorDiv(-12219292800000L, MILLIS_PER_DAY);
+  private static final int OFFSET_CACHE_SIZE = 256;
+
+  private static volatile ZoneOffsets zoneOffsets;
+
+  /**
+   * Returns the time of the given date in the default time zone wall clock, as a number of milliseconds since
+   * 1970-01-01T00:00:00.
+   *
+   * @param date the date to convert - must not be null.
+   * @return the local time of the given date.
+   * @throws NullPointerException if given Date is null
+   */
+  @SuppressWarnings("deprecation")
+  public static long localTimeOf(Date date) {
+    long time = date.getTime();
+    ZoneOffsets offsets = zoneOffsets;
+    if (offsets != null) {
+      int offset = offsets.offsetAt(time);
+      // TimeZone.getDefault() copies the default time zone whereas Date reads it as is: the cached zone is kept as long
+      // as it gives the same offset (in minutes) as the default one
+      if (-(offset / (int) MILLIS_PER_MINUTE) == date.getTimezoneOffset()) return time + offset;
+    }
+    return time + zoneOffsets(TimeZone.getDefault()).offsetAt(time);
+  }
+
+  /**
+   * Truncates the given local time to the given unit, for example truncating to {@link #MILLIS_PER_HOUR} gives the
+   * local time of the beginning of the hour.
+   *
+   * @param localTime the local time to truncate.
+   * @param unitInMillis the unit in milliseconds, one day at most.
+   * @return the truncated local time.
+   */
+  public static long truncate(long localTime, long unitInMillis) {
+    return floorDiv(localTime, unitInMillis) * unitInMillis;
+  }
+
+  /**
+   * Returns the year of the given local time, as {@link Calendar#YEAR} (years before Christ are positive).
+   */
+  public static int yearOf(long localTime) {
+    return yearOfCivilDate(civilDateOf(dayOf(localTime)));
+  }
+
+  /**
+   * Returns the month of the given local time <b>starting at 1</b> (January=1, February=2, ...).
+   */
+  public static int monthOf(long localTime) {
+    return monthOfCivilDate(civilDateOf(dayOf(localTime)));
+  }
+
+  /**
+   * Returns the day of month of the given local time.
+   */
+  public static int dayOfMonthOf(long localTime) {
+    return dayOfMonthOfCivilDate(civilDateOf(dayOf(localTime)));
+  }
+
+  /**
+   * Returns the day of week of the given local time, as {@link Calendar#DAY_OF_WEEK}.
+   */
+  public static int dayOfWeekOf(long localTime) {
+    // 1970-01-01 was a thursday
+    return (int) floorMod(dayOf(localTime) + Calendar.THURSDAY - 1, 7) + 1;
+  }
+
+  /**
+   * Returns the hour of day of the given local time (24-hour clock).
+   */
+  public static int hourOfDayOf(long localTime) {
+    return (int) (millisOfDay(localTime) / MILLIS_PER_HOUR);
+  }
+
+  /**
+   * Returns the minute of the given local time.
+   */
+  public static int minuteOf(long localTime) {
+    return (int) (millisOfDay(localTime) / MILLIS_PER_MINUTE % 60);
+  }
+
+  /**
+   * Returns the second of the given local time.
+   */
+  public static int secondOf(long localTime) {
+    return (int) (millisOfDay(localTime) / MILLIS_PER_SECOND % 60);
+  }
+
+  /**
+   * Returns the millisecond of the given local time.
+   */
+  public static int millisecondOf(long localTime) {
+    return (int) (millisOfDay(localTime) % MILLIS_PER_SECOND);
+  }
+
+  /**
+   * Returns {@code true} if the given local times have the same year and month.
+   */
+  public static boolean areInSameMonth(long localTime, long otherLocalTime) {
+    long civilDate = civilDateOf(dayOf(localTime));
+    long otherCivilDate = civilDateOf(dayOf(otherLocalTime));
+    // the day of month is held by the lowest 5 bits
+    return civilDate >> 5 == otherCivilDate >> 5;
+  }
+
+  private static long dayOf(long localTime) {
+    return floorDiv(localTime, MILLIS_PER_DAY);
+  }
+
+  private static long millisOfDay(long localTime) {
+    return floorMod(localTime, MILLIS_PER_DAY);
+  }
+
+  /**
+   * Returns the year, month and day of month of the given day packed in a long as (year << 9 | month << 5 | day), the
+   * year being the proleptic one (1 BC is year 0).
+   */
+  private static long civilDateOf(long day) {
+    long year;
+    int month;
+    int dayOfMonth;
+    if (day >= GREGORIAN_CUTOVER_DAY) {
+      // days since 0000-03-01 so that leap days end years
+      long shiftedDay = day + 719468;
+      long era = floorDiv(shiftedDay, 146097);
+      long dayOfEra = shiftedDay - era * 146097;
+      long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+      long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+      year = yearOfEra + era * 400;
+      int shiftedMonth = (int) ((5 * dayOfYear + 2) / 153);
+      dayOfMonth = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+      month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    } else {
+      // days since -4800-03-01 in the Julian calendar
+      long shiftedDay = day + 2440588 + 32082;
+      long fourYears = floorDiv(4 * shiftedDay + 3, 1461);
+      long dayOfYear = shiftedDay - floorDiv(1461 * fourYears, 4);
+      int shiftedMonth = (int) ((5 * dayOfYear + 2) / 153);
+      dayOfMonth = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+      month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+      year = fourYears - 4800;
+    }
+    if (month <= 2) year++;
+    return year << 9 | month << 5 | dayOfMonth;
+  }
+
+  private static int yearOfCivilDate(long civilDate) {
+    int year = (int) (civilDate >> 9);
+    return year > 0 ? year : 1 - year;
+  }
+
+  private static int monthOfCivilDate(long civilDate) {
+    return (int) (civilDate >> 5 & 0xF);
+  }
+
+  private static int dayOfMonthOfCivilDate(long civilDate) {
+    return (int) (civilDate & 0x1F);
+  }
+
+  private static long floorDiv(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    return (dividend % divisor != 0 && (dividend ^ divisor) < 0) ? quotient - 1 : quotient;
+  }
+
+  private static long floorMod(long dividend, long divisor) {
+    return dividend - floorDiv(dividend, divisor) * divisor;
+  }
+
+  private static ZoneOffsets zoneOffsets(TimeZone zone) {
+    ZoneOffsets offsets = zoneOffsets;
+    if (offsets == null || !offsets.isFor(zone)) {
+      offsets = new ZoneOffsets(zone);
+      zoneOffsets = offsets;
+    }
+    return offsets;
+  }
+
+  /**
+   * Offsets of a time zone by hour, an hour is only cached when the offset is the same at its start and end.
+   */
+  private static class ZoneOffsets {
+
+    private final TimeZone zone;
+    private final HourOffset[] hourOffsets = new HourOffset[OFFSET_CACHE_SIZE];
+
+    ZoneOffsets(TimeZone zone) {
+      this.zone = zone;
+    }
+
+    boolean isFor(TimeZone otherZone) {
+      return zone.getID().equals(otherZone.getID()) && zone.hasSameRules(otherZone);
+    }
+
+    int offsetAt(long time) {
+      long hour = floorDiv(time, MILLIS_PER_HOUR);
+      int index = (int) floorMod(hour, OFFSET_CACHE_SIZE);
+      HourOffset hourOffset = hourOffsets[index];
+      if (hourOffset != null && hourOffset.hour == hour) return hourOffset.offset;
+      int offset = zone.getOffset(time);
+      long hourStart = hour * MILLIS_PER_HOUR;
+      if (zone.getOffset(hourStart) == offset && zone.getOffset(hourStart + MILLIS_PER_HOUR - 1) == offset) {
+        hourOffsets[index] = new HourOffset(hour, offset);
+      }
+      return offset;
+    }
+  }
+
+  private static class HourOffset {
+
+    private final long hour;
+    private final int offset;
+
+    HourOffset(long hour, int offset) {
+      this.hour = hour;
+      this.offset = offset;
+    }
+  }
+
+  private DateFields() {}
+}
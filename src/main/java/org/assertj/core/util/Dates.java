@@ -19,6 +19,7 @@ import static java.util.concurrent.TimeUnit.DAYS;
 import static java.util.concurrent.TimeUnit.HOURS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.util.DateFields.localTimeOf;
 
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -37,16 +38,31 @@ public class Dates {
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
    */
-  private static final DateFormat ISO_DATE_FORMAT = newIsoDateFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_FORMAT = new ThreadLocal<DateFormat>() {
+    @Override
+    protected DateFormat initialValue() {
+      return newIsoDateFormat();
+    }
+  };
   /**
    * ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss), example : <code>2003-04-26T13:01:02</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT = newIsoDateTimeFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT = new ThreadLocal<DateFormat>() {
+    @Override
+    protected DateFormat initialValue() {
+      return newIsoDateTimeFormat();
+    }
+  };
   /**
    * ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss.SSS), example :
    * <code>2003-04-26T03:01:02.999</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT_WITH_MS = newIsoDateTimeWithMsFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT_WITH_MS = new ThreadLocal<DateFormat>() {
+    @Override
+    protected DateFormat initialValue() {
+      return newIsoDateTimeWithMsFormat();
+    }
+  };
 
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
@@ -71,29 +87,29 @@ public class Dates {
   }
 
   /**
-   * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br> Method in synchronized
-   * because SimpleDateFormat is not thread safe (sigh).
+   * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br> Method is thread
+   * safe, each thread has its own SimpleDateFormat since it is not thread safe (sigh).
    * <p/>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetime(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT.format(date);
+  public static String formatAsDatetime(Date date) {
+    return date == null ? null : ISO_DATE_TIME_FORMAT.get().format(date);
   }
 
   /**
    * Formats the given date using the ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss:SSS).<br> Method
-   * in synchronized because SimpleDateFormat is not thread safe (sigh).
+   * is thread safe, each thread has its own SimpleDateFormat since it is not thread safe (sigh).
    * <p/>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetimeWithMs(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.format(date);
+  public static String formatAsDatetimeWithMs(Date date) {
+    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.get().format(date);
   }
 
   /**
@@ -116,9 +132,9 @@ public class Dates {
    * @return the corresponding Date or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parse(String dateAsString) {
+  public static Date parse(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -136,9 +152,9 @@ public class Dates {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetime(String dateAsString) {
+  public static Date parseDatetime(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -156,9 +172,9 @@ public class Dates {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetimeWithMs(String dateAsString) {
+  public static Date parseDatetimeWithMs(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -187,7 +203,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int yearOf(Date date) {
-    return toCalendar(date).get(Calendar.YEAR);
+    return DateFields.yearOf(localTimeOf(date));
   }
 
   /**
@@ -198,7 +214,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int monthOf(Date date) {
-    return toCalendar(date).get(Calendar.MONTH) + 1; // based 1 month (January=1)
+    return DateFields.monthOf(localTimeOf(date)); // based 1 month (January=1)
   }
 
   /**
@@ -209,7 +225,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int dayOfMonthOf(Date date) {
-    return toCalendar(date).get(Calendar.DAY_OF_MONTH);
+    return DateFields.dayOfMonthOf(localTimeOf(date));
   }
 
   /**
@@ -220,7 +236,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int dayOfWeekOf(Date date) {
-    return toCalendar(date).get(Calendar.DAY_OF_WEEK);
+    return DateFields.dayOfWeekOf(localTimeOf(date));
   }
 
   /**
@@ -231,7 +247,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int hourOfDayOf(Date date) {
-    return toCalendar(date).get(Calendar.HOUR_OF_DAY);
+    return DateFields.hourOfDayOf(localTimeOf(date));
   }
 
   /**
@@ -242,7 +258,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int minuteOf(Date date) {
-    return toCalendar(date).get(Calendar.MINUTE);
+    return DateFields.minuteOf(localTimeOf(date));
   }
 
   /**
@@ -253,7 +269,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int secondOf(Date date) {
-    return toCalendar(date).get(Calendar.SECOND);
+    return DateFields.secondOf(localTimeOf(date));
   }
 
   /**
@@ -264,7 +280,7 @@ public class Dates {
    * @throws NullPointerException if given Date is null
    */
   public static int millisecondOf(Date date) {
-    return toCalendar(date).get(Calendar.MILLISECOND);
+    return DateFields.millisecondOf(localTimeOf(date));
   }
 
   /**
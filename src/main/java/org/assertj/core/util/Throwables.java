@@ -14,16 +14,16 @@
  */
 package org.assertj.core.util;
 
-import static org.assertj.core.util.Lists.newArrayList;
-
-import java.util.*;
-
 /**
  * Utility methods related to <code>{@link Throwable}</code>s.
  * 
  * @author Alex Ruiz
  */
 public final class Throwables {
+
+  private static final String ASSERTJ_PACKAGE_PREFIX = "org.assert";
+  private static final String CONSTRUCTOR_INVOKER_CLASS_NAME = "org.assertj.core.error.ConstructorInvoker";
+
   /**
    * Appends the stack trace of the current thread to the one in the given <code>{@link Throwable}</code>.
    * 
@@ -31,29 +31,28 @@ public final class Throwables {
    * @param methodToStartFrom the name of the method used as the starting point of the current thread's stack trace.
    */
   public static void appendStackTraceInCurentThreadToThrowable(Throwable t, String methodToStartFrom) {
-    List<StackTraceElement> stackTrace = newArrayList(t.getStackTrace());
-    stackTrace.addAll(stackTraceInCurrentThread(methodToStartFrom));
-    t.setStackTrace(stackTrace.toArray(new StackTraceElement[stackTrace.size()]));
+    StackTraceElement[] stackTrace = t.getStackTrace();
+    StackTraceElement[] currentThreadStackTrace = Thread.currentThread().getStackTrace();
+    int start = indexOfMethod(currentThreadStackTrace, methodToStartFrom);
+    int appendedLength = currentThreadStackTrace.length - start;
+    StackTraceElement[] newStackTrace = new StackTraceElement[stackTrace.length + appendedLength];
+    System.arraycopy(stackTrace, 0, newStackTrace, 0, stackTrace.length);
+    System.arraycopy(currentThreadStackTrace, start, newStackTrace, stackTrace.length, appendedLength);
+    t.setStackTrace(newStackTrace);
   }
 
-  private static List<StackTraceElement> stackTraceInCurrentThread(String methodToStartFrom) {
-    List<StackTraceElement> filtered = stackTraceInCurrentThread();
-    List<StackTraceElement> toRemove = new ArrayList<StackTraceElement>();
-    for (StackTraceElement e : filtered) {
-      if (methodToStartFrom.equals(e.getMethodName())) {
-        break;
-      }
-      toRemove.add(e);
+  /**
+   * Returns the index of the first element of the given stack trace calling the given method, the stack trace length if
+   * there is none.
+   */
+  private static int indexOfMethod(StackTraceElement[] stackTrace, String methodName) {
+    for (int i = 0; i < stackTrace.length; i++) {
+      if (methodName.equals(stackTrace[i].getMethodName())) return i;
     }
-    filtered.removeAll(toRemove);
-    return filtered;
-  }
-
-  private static List<StackTraceElement> stackTraceInCurrentThread() {
-    return newArrayList(Thread.currentThread().getStackTrace());
+    return stackTrace.length;
   }
 
-/**
+  /**
    * Removes the AssertJ-related elements from the <code>{@link Throwable}</code> stack trace that have little value for
    * end user. Therefore, instead of seeing this:
    *
@@ -85,11 +84,13 @@ public final class Throwables {
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int filteredLength = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
-      if (element.getClassName().contains("org.assert")) {
-        filtered.remove(element);
+    for (StackTraceElement element : stackTrace) {
+      String className = element.getClassName();
+      if (className.startsWith(ASSERTJ_PACKAGE_PREFIX)) {
         // Handle the case when AssertJ builds a ComparisonFailure by reflection (see ShouldBeEqual.newAssertionError
         // method), the stack trace looks like:
         //
@@ -97,14 +98,19 @@ public final class Throwables {
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
         // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
-        if (previous != null && previous.getClassName().equals("java.lang.reflect.Constructor")
-            && element.getClassName().contains("org.assertj.core.error.ConstructorInvoker")) {
-          filtered.remove(previous);
+        if (filteredLength > 0 && filtered[filteredLength - 1] == previous
+            && previous.getClassName().equals("java.lang.reflect.Constructor")
+            && className.equals(CONSTRUCTOR_INVOKER_CLASS_NAME)) {
+          filteredLength--;
         }
+      } else {
+        filtered[filteredLength++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
+    if (filteredLength == stackTrace.length) return;
+    StackTraceElement[] newStackTrace = new StackTraceElement[filteredLength];
+    System.arraycopy(filtered, 0, newStackTrace, 0, filteredLength);
     throwable.setStackTrace(newStackTrace);
   }
 
@@ -0,0 +1,49 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Reads the value of a property or a field from objects of a given class, the member to read being resolved once by
+ * {@link Accessors} and reused for all objects of that class.
+ */
+public abstract class Accessor {
+
+  private final String name;
+
+  Accessor(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the name of the property or field read by this accessor.
+   * 
+   * @return the name of the property or field read by this accessor.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the value of the property or field read by this accessor from the given object.
+   * 
+   * @param target the object to read, its class must be the one this accessor was resolved for (or a subclass of it).
+   * @return the value of the property or field read by this accessor.
+   * @throws IllegalAccessException if the property or field is not accessible.
+   * @throws InvocationTargetException if the property getter has thrown an exception.
+   */
+  public abstract Object valueOf(Object target) throws IllegalAccessException, InvocationTargetException;
+}
@@ -0,0 +1,193 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.introspection.FieldUtils.findField;
+import static org.assertj.core.util.introspection.Introspection.findProperty;
+import static org.assertj.core.util.introspection.Introspection.propertyNotFoundErrorMessage;
+import static org.assertj.core.util.introspection.MethodSupport.findMethod;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link Accessor}s: a property, field or method is resolved once per (class, name) and the resulting
+ * accessor is reused afterwards, unknown properties and fields are remembered too.
+ * <p>
+ * Classes are weakly referenced and their accessors softly referenced so that caching them does not prevent class
+ * loaders from being garbage collected.
+ */
+public final class Accessors {
+
+  private static final Object NOT_FOUND = new Object();
+
+  private static final MemberCache PROPERTIES = new MemberCache();
+  private static final MemberCache FIELDS = new MemberCache();
+  private static final MemberCache METHODS = new MemberCache();
+
+  /**
+   * Returns the {@link PropertyAccessor} for the property matching the given name in the given class.
+   * 
+   * @param propertyName the given property name.
+   * @param type the class declaring or inheriting the property.
+   * @return the {@link PropertyAccessor} for the property matching the given name in the given class.
+   * @throws IntrospectionError if a matching property cannot be found or accessed.
+   */
+  public static PropertyAccessor propertyAccessor(String propertyName, Class<?> type) {
+    Object accessor = resolvePropertyAccessor(propertyName, type);
+    if (accessor instanceof PropertyNotFound) throw new IntrospectionError(((PropertyNotFound) accessor).message);
+    return (PropertyAccessor) accessor;
+  }
+
+  /**
+   * Returns the {@link PropertyAccessor} for the property matching the given name in the given class, or {@code null}
+   * if there is none, for callers that have another way to read the value and don't need the error.
+   * 
+   * @param propertyName the given property name.
+   * @param type the class declaring or inheriting the property.
+   * @return the {@link PropertyAccessor} for the property matching the given name, {@code null} if there is none.
+   * @throws IntrospectionError if the properties of the given class cannot be introspected.
+   */
+  public static PropertyAccessor findPropertyAccessor(String propertyName, Class<?> type) {
+    Object accessor = resolvePropertyAccessor(propertyName, type);
+    return accessor instanceof PropertyNotFound ? null : (PropertyAccessor) accessor;
+  }
+
+  private static Object resolvePropertyAccessor(String propertyName, Class<?> type) {
+    ConcurrentMap<String, Object> properties = PROPERTIES.membersOf(type);
+    Object accessor = properties.get(propertyName);
+    if (accessor == null) {
+      PropertyDescriptor descriptor = findProperty(propertyName, type);
+      accessor = descriptor == null ? new PropertyNotFound(propertyNotFoundErrorMessage(propertyName, type))
+          : new PropertyAccessor(descriptor);
+      properties.put(propertyName, accessor);
+    }
+    return accessor;
+  }
+
+  /**
+   * Returns the {@link FieldAccessor} for the field matching the given name in the given class, its superclasses or its
+   * interfaces, whatever its visibility is.
+   * 
+   * @param fieldName the given field name.
+   * @param type the class declaring or inheriting the field.
+   * @return the {@link FieldAccessor} for the field matching the given name, {@code null} if there is none.
+   * @throws IllegalArgumentException if the field is ambiguous since declared by several interfaces.
+   */
+  public static FieldAccessor fieldAccessor(String fieldName, Class<?> type) {
+    ConcurrentMap<String, Object> fields = FIELDS.membersOf(type);
+    Object accessor = fields.get(fieldName);
+    if (accessor == null) {
+      Field field = findField(type, fieldName);
+      accessor = field == null ? NOT_FOUND : new FieldAccessor(field);
+      fields.put(fieldName, accessor);
+    }
+    return accessor == NOT_FOUND ? null : (FieldAccessor) accessor;
+  }
+
+  /**
+   * Returns the {@link MethodAccessor} for the public method without arguments matching the given name in the given
+   * class, only successful lookups are cached since a missing method fails the whole extraction anyway.
+   * 
+   * @param methodName the given method name.
+   * @param type the class declaring or inheriting the method.
+   * @return the {@link MethodAccessor} for the method matching the given name in the given class.
+   * @throws IllegalArgumentException if method does not exist or is not public, method returns void or method accepts
+   *           any argument
+   */
+  public static MethodAccessor methodAccessor(String methodName, Class<?> type) {
+    ConcurrentMap<String, Object> methods = METHODS.membersOf(type);
+    MethodAccessor accessor = (MethodAccessor) methods.get(methodName);
+    if (accessor == null) {
+      accessor = new MethodAccessor(findMethod(methodName, type));
+      methods.put(methodName, accessor);
+    }
+    return accessor;
+  }
+
+  private static class PropertyNotFound {
+    private final String message;
+
+    PropertyNotFound(String message) {
+      this.message = message;
+    }
+  }
+
+  /**
+   * Members found in each class, looked up without locking once a class is cached; neither classes nor their members
+   * are retained by the cache.
+   */
+  private static class MemberCache {
+
+    private final ConcurrentMap<ClassKey, Reference<ConcurrentMap<String, Object>>> membersByClass =
+        new ConcurrentHashMap<ClassKey, Reference<ConcurrentMap<String, Object>>>();
+    private final ReferenceQueue<Class<?>> collectedClasses = new ReferenceQueue<Class<?>>();
+
+    ConcurrentMap<String, Object> membersOf(Class<?> type) {
+      Reference<ConcurrentMap<String, Object>> reference = membersByClass.get(new ClassKey(type, null));
+      ConcurrentMap<String, Object> members = reference == null ? null : reference.get();
+      return members != null ? members : cacheMembersOf(type);
+    }
+
+    private synchronized ConcurrentMap<String, Object> cacheMembersOf(Class<?> type) {
+      Reference<?> collectedClass;
+      while ((collectedClass = collectedClasses.poll()) != null) {
+        membersByClass.remove(collectedClass);
+      }
+      ClassKey key = new ClassKey(type, collectedClasses);
+      Reference<ConcurrentMap<String, Object>> reference = membersByClass.get(key);
+      ConcurrentMap<String, Object> members = reference == null ? null : reference.get();
+      if (members == null) {
+        members = new ConcurrentHashMap<String, Object>();
+        membersByClass.put(key, new SoftReference<ConcurrentMap<String, Object>>(members));
+      }
+      return members;
+    }
+  }
+
+  /**
+   * Weak reference to a class, equal to the references to the same class as long as it is not collected.
+   */
+  private static class ClassKey extends WeakReference<Class<?>> {
+
+    private final int hashCode;
+
+    ClassKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+      super(type, queue);
+      hashCode = System.identityHashCode(type);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof ClassKey)) return false;
+      Class<?> type = get();
+      return type != null && type == ((ClassKey) obj).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private Accessors() {}
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link Accessor} reading a field directly.
+ */
+public final class FieldAccessor extends Accessor {
+
+  private final Field field;
+
+  FieldAccessor(Field field) {
+    super(field.getName());
+    this.field = field;
+    // done once here rather than before each read, reads of non public fields are rejected by callers when not allowed
+    try {
+      field.setAccessible(true);
+    } catch (SecurityException e) { // NOPMD
+      // ignore in favor of subsequent IllegalAccessException
+    }
+  }
+
+  /**
+   * Returns the field read by this accessor.
+   * 
+   * @return the field read by this accessor.
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Returns true if the field read by this accessor is public.
+   * 
+   * @return true if the field read by this accessor is public.
+   */
+  public boolean isPublic() {
+    return Modifier.isPublic(field.getModifiers());
+  }
+
+  @Override
+  public Object valueOf(Object target) throws IllegalAccessException {
+    return field.get(target);
+  }
+}
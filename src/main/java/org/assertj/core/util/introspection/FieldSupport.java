@@ -152,6 +152,24 @@ public class FieldSupport {
     return fieldName.contains(SEPARATOR) && !fieldName.startsWith(SEPARATOR) && !fieldName.endsWith(SEPARATOR);
   }
 
+  /**
+   * Returns the {@link FieldAccessor} for the given field of the given type if {@link #fieldValue(String, Class, Object)}
+   * is able to read it, i.e. if it exists and is either public or private fields extraction is allowed.
+   * 
+   * @param fieldName the name of the field, nested fields are not supported.
+   * @param type the class declaring or inheriting the field.
+   * @return the {@link FieldAccessor} for the given field, {@code null} if it can't be read.
+   */
+  public FieldAccessor readableFieldAccessor(String fieldName, Class<?> type) {
+    try {
+      FieldAccessor accessor = Accessors.fieldAccessor(fieldName, type);
+      if (accessor == null || (!accessor.isPublic() && !allowExtractingPrivateFields)) return null;
+      return accessor;
+    } catch (IllegalArgumentException ambiguousField) {
+      return null;
+    }
+  }
+
   /**
    * Return the value of field from a target object.
    * 
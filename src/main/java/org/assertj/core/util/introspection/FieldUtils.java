@@ -13,7 +13,6 @@ package org.assertj.core.util.introspection;
  * specific language governing permissions and limitations under the License.
  */
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 
 
 /**
@@ -58,6 +57,21 @@ public class FieldUtils {
     if (fieldName == null) {
       throw new IllegalArgumentException("The field name must not be null");
     }
+    FieldAccessor accessor = Accessors.fieldAccessor(fieldName, cls);
+    if (accessor == null) {
+      return null;
+    }
+    if (!accessor.isPublic() && !forceAccess) {
+      throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+    }
+    return accessor.getField();
+  }
+
+  /**
+   * Looks up the field matching the given name in the given class hierarchy whatever its visibility is, callers should
+   * go through {@link Accessors#fieldAccessor(String, Class)} which caches the result.
+   */
+  static Field findField(final Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -74,16 +88,7 @@ public class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
-        // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return acls.getDeclaredField(fieldName);
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -45,8 +45,18 @@ public final class Introspection {
   public static PropertyDescriptor getProperty(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
+    return Accessors.propertyAccessor(propertyName, target.getClass()).getDescriptor();
+  }
+
+  /**
+   * Looks up the {@link PropertyDescriptor} for the property matching the given name in the given type, callers should
+   * go through {@link Accessors#propertyAccessor(String, Class)} which caches the result.
+   * 
+   * @return the matching {@code PropertyDescriptor} or {@code null} if there is none.
+   * @throws IntrospectionError if the {@link BeanInfo} of the given type cannot be obtained.
+   */
+  static PropertyDescriptor findProperty(String propertyName, Class<?> type) {
     BeanInfo beanInfo = null;
-    Class<?> type = target.getClass();
     try {
       beanInfo = Introspector.getBeanInfo(type);
     } catch (Throwable t) {
@@ -57,13 +67,13 @@ public final class Introspection {
         return descriptor;
       }
     }
-    throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target));
+    return null;
   }
 
-  private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
-    String targetTypeName = target.getClass().getName();
+  static String propertyNotFoundErrorMessage(String propertyName, Class<?> type) {
+    String targetTypeName = type.getName();
     String property = quote(propertyName);
-    Method getter = findGetter(propertyName, target);
+    Method getter = findGetter(propertyName, type);
     if (getter == null) {
       return format("No getter for property %s in %s", property, targetTypeName);
     }
@@ -73,21 +83,21 @@ public final class Introspection {
     return format("Unable to find property %s in %s", property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> type) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, type);
     if (getter != null) {
       return getter;
     }
     // try to find isProperty for boolean properties
-    return findMethod("is" + capitalized, target);
+    return findMethod("is" + capitalized, type);
   }
 
-  private static Method findMethod(String name, Object target) {
+  private static Method findMethod(String name, Class<?> type) {
     // TODO walk class hierarchy to check if any superclass declares the method we are looking for.
     try {
-      return target.getClass().getDeclaredMethod(name);
+      return type.getDeclaredMethod(name);
     } catch (Throwable t) {
       return null;
     }
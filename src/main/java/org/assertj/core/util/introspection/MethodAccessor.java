@@ -0,0 +1,45 @@
+/*
+ * Created on Apr 26, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link Accessor} reading the result of a public method without arguments.
+ */
+public final class MethodAccessor extends Accessor {
+
+  private final Method method;
+
+  MethodAccessor(Method method) {
+    super(method.getName());
+    this.method = method;
+  }
+
+  /**
+   * Returns the method invoked by this accessor.
+   * 
+   * @return the method invoked by this accessor.
+   */
+  public Method getMethod() {
+    return method;
+  }
+
+  @Override
+  public Object valueOf(Object target) throws IllegalAccessException, InvocationTargetException {
+    return method.invoke(target);
+  }
+}
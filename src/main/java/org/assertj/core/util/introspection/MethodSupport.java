@@ -52,19 +52,23 @@ public class MethodSupport {
   public static Object methodResultFor(Object instance, String methodName) {
     checkNotNull(instance, "Object instance can not be null!");
     checkNotNullOrEmpty(methodName, "Method name can not be empty!");
-    Method method = findMethod(methodName, instance.getClass());
-    return invokeMethod(instance, method);
+    MethodAccessor accessor = Accessors.methodAccessor(methodName, instance.getClass());
+    return invokeMethod(instance, accessor);
   }
 
-  private static Object invokeMethod(Object item, Method method) {
+  private static Object invokeMethod(Object item, MethodAccessor accessor) {
     try {
-      return method.invoke(item);
+      return accessor.valueOf(item);
     } catch (Exception e) {
       throw new IllegalStateException(e);
     }
   }
 
-  private static Method findMethod(String methodName, Class<? extends Object> itemClass) {
+  /**
+   * Looks up the public method without arguments matching the given name, callers should go through
+   * {@link Accessors#methodAccessor(String, Class)} which caches the result.
+   */
+  static Method findMethod(String methodName, Class<? extends Object> itemClass) {
     try {
       Method method = itemClass.getMethod(methodName);
       assertHasReturnType(itemClass, method);
@@ -0,0 +1,57 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link Accessor} reading a JavaBean property through its getter.
+ */
+public final class PropertyAccessor extends Accessor {
+
+  private final PropertyDescriptor descriptor;
+  // strong reference to the read method made accessible, PropertyDescriptor only keeps a soft one
+  private final Method readMethod;
+
+  PropertyAccessor(PropertyDescriptor descriptor) {
+    super(descriptor.getName());
+    this.descriptor = descriptor;
+    this.readMethod = descriptor.getReadMethod();
+    // done once here rather than before each read, needed for public getters of non public classes
+    if (readMethod != null) {
+      try {
+        readMethod.setAccessible(true);
+      } catch (SecurityException e) { // NOPMD
+        // ignore in favor of subsequent IllegalAccessException
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link PropertyDescriptor} of the property read by this accessor.
+   * 
+   * @return the {@link PropertyDescriptor} of the property read by this accessor.
+   */
+  public PropertyDescriptor getDescriptor() {
+    return descriptor;
+  }
+
+  @Override
+  public Object valueOf(Object target) throws IllegalAccessException, InvocationTargetException {
+    return readMethod.invoke(target);
+  }
+}
@@ -19,14 +19,12 @@ import static org.assertj.core.util.xml.XmlUtil.nodeList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.assertj.core.util.Preconditions;
 import org.w3c.dom.Document;
@@ -35,44 +33,49 @@ import org.w3c.dom.NodeList;
 
 /**
  * Helper class for executing xpath queries.  
+ * <p>
+ * Extracted nodes are not copied, the returned node lists are read-only views over the nodes of the queried documents.
+ * </p>
  * 
  * @author Michał Piotrkowski
  */
 public class XPathExtractor {
 
-  private class AggregateNodeList implements NodeList {
+  /**
+   * Node list gathering the results of an xpath query on several nodes, the nodes are indexed as they are appended so
+   * that {@link #item(int)} and {@link #getLength()} do not depend on the number of queried nodes.
+   */
+  private static class AggregateNodeList implements NodeList {
 
-    private List<NodeList> delegates = new ArrayList<NodeList>();
+    private final List<Node> nodes = new ArrayList<Node>();
     
     public void append(NodeList n){
-      delegates.add(n);
+      for (int i = 0; i < n.getLength(); i++) {
+        Node node = n.item(i);
+        if(node.getNodeType() == Node.DOCUMENT_NODE){
+          node = ((Document) node).getDocumentElement();   // use document element instead of document, it cannot be the root of another document
+        }
+        nodes.add(node);
+      }
     }
     
     @Override
     public Node item(int index) {
-      
-      int effectiveIndex = index;
-      
-      for (NodeList n : delegates) {
-        if(n.getLength() > effectiveIndex){
-          return n.item(effectiveIndex);
-        }
-        effectiveIndex -= n.getLength();
-      }
-      
-      return null;
+      return index < 0 || index >= nodes.size() ? null : nodes.get(index);
     }
 
     @Override
     public int getLength() {
-      int sum = 0;
-      for (NodeList n : delegates) {
-        sum += n.getLength();
-      }
-      return sum;
+      return nodes.size();
     }
   }
 
+  private static final String NAME = "[\\p{L}_][\\p{L}\\p{N}_.\\-]*";
+  private static final String STEP = "(?:\\.|@?(?:\\*|" + NAME + "(?::(?:" + NAME + "|\\*))?)"
+                                     + "|(?:text|comment|node|processing-instruction)\\(\\))";
+  private static final String RELATIVE_PATH = "\\s*" + STEP + "(?:\\s*//?\\s*" + STEP + ")*\\s*";
+  private static final Pattern SUBTREE_PATHS = Pattern.compile(RELATIVE_PATH + "(?:\\|" + RELATIVE_PATH + ")*");
+
   private NodeList xml;
 
   public XPathExtractor(String actual) {
@@ -87,14 +90,15 @@ public class XPathExtractor {
 
     Preconditions.checkNotNullOrEmpty(xpath, "XPath expression cannot be empty!");
     
-    XPath path = XPathFactory.newInstance().newXPath();
+    XPathExpression expression = XmlFactories.compile(xpath);
+    boolean isolateContext = mayLeaveContextSubtree(xpath);
     try {
       
       AggregateNodeList list = new AggregateNodeList();
       
       for (int index=0; index<xml.getLength(); index++) {
         Node x = xml.item(index);
-        list.append(extractNodeList(xpath, path, x));
+        list.append(evaluate(expression, isolateContext ? isolate(x) : x));
       }
       return list;
       
@@ -105,51 +109,43 @@ public class XPathExtractor {
   }
 
   public NodeList extractNodeList(String xpath, XPath path, Node x) throws XPathExpressionException {
+    return evaluate(path.compile(xpath), mayLeaveContextSubtree(xpath) ? isolate(x) : x);
+  }
 
-    NodeList result = (NodeList) path.compile(xpath).evaluate(x, XPathConstants.NODESET);
-    
-    final List<Node> copy = new ArrayList<Node>();
+  private static NodeList evaluate(XPathExpression expression, Node x) throws XPathExpressionException {
     
-    for (int i=0; i<result.getLength(); i++) {
-      copy.add(cloneToSeparateDocument(result.item(i)));
-    }
-
-    return new NodeList() {
-      
-      @Override
-      public Node item(int index) {
-        return copy.get(index);
-      }
-      
-      @Override
-      public int getLength() {
-        return copy.size();
-      }
-    };
+    AggregateNodeList nodes = new AggregateNodeList();
+    nodes.append((NodeList) expression.evaluate(x, XPathConstants.NODESET));
+    return nodes;
   }
 
-  private Node cloneToSeparateDocument(Node n) {
+  /**
+   * Returns <code>true</code> unless the given expression is known to select nodes within the subtree of its context
+   * node only, i.e. unless it is a union of relative location paths made of child, descendant and attribute steps
+   * without predicates. Anything else (absolute paths, other axes, predicates, functions like <code>id()</code> or
+   * <code>lang()</code>) may read outside the subtree.
+   */
+  private static boolean mayLeaveContextSubtree(String xpath) {
+    return !SUBTREE_PATHS.matcher(xpath).matches();
+  }
 
-    if(n.getNodeType() == Node.DOCUMENT_NODE){
-      n = ((Document)n).getDocumentElement();   // document cannot be imported, import document element instead
+  /**
+   * Returns the given node if it is the root of its document, otherwise a copy of it with no parent: an element becomes
+   * the root element of a new document, so that a node extracted by a previous query is the root of the following
+   * queries, other nodes (attributes, texts, comments) are detached from their owner.
+   */
+  private static Node isolate(Node n) {
+    
+    if(n.getNodeType() == Node.DOCUMENT_NODE || n.getOwnerDocument().getDocumentElement() == n){
+      return n;
     }
     
-    try {
-      DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-      DocumentBuilder db = dbf.newDocumentBuilder();
-      Document document = db.newDocument();
-            
-      Node copy = document.importNode(n, true);
-      
-      if(n.getNodeType() == Node.ELEMENT_NODE){
-        document.appendChild(copy);
-      }
-      
-      return copy;
-      
-    } catch (ParserConfigurationException e) {
-      throw new RuntimeException(e);
+    Document document = XmlFactories.documentBuilder().newDocument();
+    Node copy = document.importNode(n, true);
+    if(n.getNodeType() == Node.ELEMENT_NODE){
+      document.appendChild(copy);
     }
+    return copy;
   }
 
 }
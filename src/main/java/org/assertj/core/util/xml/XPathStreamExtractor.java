@@ -0,0 +1,515 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static java.lang.String.format;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.assertj.core.util.Preconditions;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Helper class for executing xpath queries on xml documents too big to be loaded in memory.
+ * <p>
+ * The document is read as a stream of StAX events and only the nodes selected by the query are kept, which limits the
+ * supported xpath expressions to absolute location paths made of:
+ * <ul>
+ * <li>element steps: <code>/name</code>, <code>//name</code>, <code>/*</code> optionally followed by attribute
+ * predicates like <code>[@name]</code> or <code>[@name='value']</code>,</li>
+ * <li>a last step selecting attributes (<code>/@name</code>, <code>/@*</code>), texts (<code>/text()</code>) or comments
+ * (<code>/comment()</code>) instead of elements.</li>
+ * </ul>
+ * As with {@link XmlUtil#toXml(String)}, texts made only of whitespaces are ignored.
+ * </p>
+ */
+public class XPathStreamExtractor {
+
+  private static final int DESCRIBED_CHARACTERS = 80;
+
+  private final Object source;
+
+  /**
+   * Creates a new extractor reading the given file each time a query is executed.
+   * 
+   * @param file the xml file to query.
+   */
+  public XPathStreamExtractor(File file) {
+    this((Object) file);
+  }
+
+  /**
+   * Creates a new extractor reading the given stream, since the stream is consumed by the first query it can only be
+   * queried once. The stream is not closed.
+   * 
+   * @param stream the xml stream to query.
+   */
+  public XPathStreamExtractor(InputStream stream) {
+    this((Object) stream);
+  }
+
+  /**
+   * Creates a new extractor reading the given xml.
+   * 
+   * @param xml the xml to query.
+   */
+  public XPathStreamExtractor(CharSequence xml) {
+    this((Object) xml);
+  }
+
+  private XPathStreamExtractor(Object source) {
+    this.source = Preconditions.checkNotNull(source, "The xml to query should not be null");
+  }
+
+  /**
+   * Returns the nodes selected by the given xpath expression, in document order.
+   * 
+   * @param xpath the xpath expression to execute.
+   * @return the selected nodes.
+   * @throws IllegalArgumentException if the given expression is empty, invalid or not supported.
+   * @throws XMLStreamException if the xml is not well formed.
+   * @throws IOException if the xml cannot be read.
+   */
+  public NodeList extract(String xpath) throws XMLStreamException, IOException {
+    
+    Preconditions.checkNotNullOrEmpty(xpath, "XPath expression cannot be empty!");
+    LocationPath path = LocationPath.parse(xpath);
+    
+    if (source instanceof File) {
+      InputStream stream = new BufferedInputStream(new FileInputStream((File) source));
+      try {
+        return extract(path, XmlFactories.xmlInputFactory().createXMLStreamReader(stream));
+      } finally {
+        stream.close();
+      }
+    }
+    if (source instanceof InputStream) {
+      return extract(path, XmlFactories.xmlInputFactory().createXMLStreamReader((InputStream) source));
+    }
+    return extract(path, XmlFactories.xmlInputFactory().createXMLStreamReader(new StringReader(source.toString())));
+  }
+
+  private static NodeList extract(LocationPath path, XMLStreamReader reader) throws XMLStreamException {
+    try {
+      return new Evaluation(path).run(reader);
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Describes the queried xml without reading it, only the beginning of an xml given as characters is shown.
+   */
+  @Override
+  public String toString() {
+    if (source instanceof File) return format("file:<%s>", source);
+    if (source instanceof InputStream) return format("stream:<%s>", source);
+    CharSequence xml = (CharSequence) source;
+    if (xml.length() <= DESCRIBED_CHARACTERS) return format("xml:<\"%s\">", xml);
+    return format("xml:<\"%s...\"> (%s characters)", xml.subSequence(0, DESCRIBED_CHARACTERS), xml.length());
+  }
+
+  /**
+   * State of an evaluation, updated on each event of the stream.
+   */
+  private static class Evaluation {
+
+    private final LocationPath path;
+    private final List<Node> result = new ArrayList<Node>();
+    // owner of the selected nodes that are not part of a selected element
+    private final Document document = XmlFactories.documentBuilder().newDocument();
+    private final List<Frame> openElements = new ArrayList<Frame>();
+    private final StringBuilder pendingText = new StringBuilder();
+    private boolean pendingCData;
+    private boolean followsText;
+
+    Evaluation(LocationPath path) {
+      this.path = path;
+      openElements.add(Frame.root());
+    }
+
+    NodeList run(XMLStreamReader reader) throws XMLStreamException {
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.SPACE) {
+          appendText(reader.getText(), false);
+          continue;
+        }
+        if (event == XMLStreamConstants.CDATA) {
+          appendText(reader.getText(), true);
+          continue;
+        }
+        flushText();
+        followsText = false;
+        switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          startElement(reader);
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          openElements.remove(openElements.size() - 1);
+          break;
+        case XMLStreamConstants.COMMENT:
+          Frame parent = parent();
+          Node comment = null;
+          if (parent.copy != null) {
+            comment = parent.copy.appendChild(parent.copy.getOwnerDocument().createComment(reader.getText()));
+          }
+          if (isSelected(parent, Target.COMMENT)) {
+            result.add(comment != null ? comment : document.createComment(reader.getText()));
+          }
+          break;
+        case XMLStreamConstants.PROCESSING_INSTRUCTION:
+          Element parentCopy = parent().copy;
+          if (parentCopy != null) {
+            parentCopy.appendChild(parentCopy.getOwnerDocument().createProcessingInstruction(reader.getPITarget(),
+                                                                                             reader.getPIData()));
+          }
+          break;
+        default:
+          break;
+        }
+      }
+      return XmlUtil.nodeList(result);
+    }
+
+    /**
+     * Gathers the text of consecutive events since a parser may report a text in several parts, CDATA sections are
+     * kept apart as in a DOM.
+     */
+    private void appendText(String text, boolean cdata) {
+      if (pendingCData != cdata) flushText();
+      pendingText.append(text);
+      pendingCData = cdata;
+    }
+
+    private void flushText() {
+      if (pendingText.length() == 0) return;
+      String text = pendingText.toString();
+      pendingText.setLength(0);
+      // as XmlUtil.removeEmptyTextNodes does
+      if (text.trim().length() == 0) return;
+      
+      Frame parent = parent();
+      Node node = null;
+      if (parent.copy != null) node = parent.copy.appendChild(textNode(parent.copy.getOwnerDocument(), text));
+      // xpath sees a text followed by a CDATA section as a single text node, the first one
+      if (isSelected(parent, Target.TEXT) && !followsText) {
+        result.add(node != null ? node : textNode(document, text));
+      }
+      followsText = true;
+    }
+
+    private Node textNode(Document owner, String text) {
+      return pendingCData ? owner.createCDATASection(text) : owner.createTextNode(text);
+    }
+
+    private Frame parent() {
+      return openElements.get(openElements.size() - 1);
+    }
+
+    private void startElement(XMLStreamReader reader) {
+      
+      String name = qualifiedName(reader.getName());
+      // sorted as in a DOM NamedNodeMap, namespace declarations are attributes since documents are not namespace aware
+      Map<String, String> attributes = new TreeMap<String, String>();
+      for (int i = 0; i < reader.getNamespaceCount(); i++) {
+        String prefix = reader.getNamespacePrefix(i);
+        attributes.put(prefix == null || prefix.length() == 0 ? "xmlns" : "xmlns:" + prefix, reader.getNamespaceURI(i));
+      }
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        attributes.put(qualifiedName(reader.getAttributeName(i)), reader.getAttributeValue(i));
+      }
+      
+      Frame parent = parent();
+      Frame frame = parent.child(path, name, attributes);
+      boolean selected = path.target == Target.ELEMENT && frame.isContext(path);
+      // each element is copied once, in the copy of its outermost selected ancestor-or-self, so that nested selected
+      // elements are part of the copies of their selected ancestors as in a DOM
+      if (parent.copy != null || selected) frame.copy = copy(parent.copy, name, attributes);
+      if (selected) result.add(frame.copy);
+      openElements.add(frame);
+      
+      if (path.target == Target.ATTRIBUTE && (path.descendant ? frame.reaches(path) : frame.isContext(path))) {
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+          if (path.targetName == null || path.targetName.equals(attribute.getKey())) {
+            result.add(attribute(frame, attribute.getKey(), attribute.getValue()));
+          }
+        }
+      }
+    }
+
+    private Element copy(Element parentCopy, String name, Map<String, String> attributes) {
+      
+      Document owner = parentCopy == null ? XmlFactories.documentBuilder().newDocument()
+                                          : parentCopy.getOwnerDocument();
+      Element element = owner.createElement(name);
+      for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+        element.setAttribute(attribute.getKey(), attribute.getValue());
+      }
+      // an outermost selected element is the root of its own document
+      (parentCopy == null ? owner : parentCopy).appendChild(element);
+      return element;
+    }
+
+    private Node attribute(Frame frame, String name, String value) {
+      if (frame.copy != null) return frame.copy.getAttributeNode(name);
+      Attr attribute = document.createAttribute(name);
+      attribute.setValue(value);
+      return attribute;
+    }
+
+    private boolean isSelected(Frame parent, Target target) {
+      return path.target == target && (path.descendant ? parent.reaches(path) : parent.isContext(path));
+    }
+
+    private static String qualifiedName(QName name) {
+      String prefix = name.getPrefix();
+      return prefix == null || prefix.length() == 0 ? name.getLocalPart() : prefix + ":" + name.getLocalPart();
+    }
+  }
+
+  /**
+   * An open element (or the document itself) with the steps of the location path it matches.
+   */
+  private static class Frame {
+
+    // bit i is set if this element matches the first i element steps, bit 0 being the document
+    private final BitSet matched;
+    // steps matched by this element or one of its ancestors
+    private final BitSet reached;
+    // copy of this element if it or one of its ancestors is selected
+    private Element copy;
+
+    private Frame(BitSet matched, BitSet reached) {
+      this.matched = matched;
+      this.reached = reached;
+    }
+
+    static Frame root() {
+      BitSet matched = new BitSet();
+      matched.set(0);
+      return new Frame(matched, matched);
+    }
+
+    Frame child(LocationPath path, String name, Map<String, String> attributes) {
+      BitSet childMatched = new BitSet();
+      for (int i = 0; i < path.steps.size(); i++) {
+        Step step = path.steps.get(i);
+        boolean previousStepMatched = step.descendant ? reached.get(i) : matched.get(i);
+        if (previousStepMatched && step.matches(name, attributes)) childMatched.set(i + 1);
+      }
+      BitSet childReached = reached;
+      if (!childMatched.isEmpty()) {
+        childReached = (BitSet) reached.clone();
+        childReached.or(childMatched);
+      }
+      return new Frame(childMatched, childReached);
+    }
+
+    boolean isContext(LocationPath path) {
+      return matched.get(path.steps.size());
+    }
+
+    boolean reaches(LocationPath path) {
+      return reached.get(path.steps.size());
+    }
+  }
+
+  private static enum Target {
+    ELEMENT, ATTRIBUTE, TEXT, COMMENT
+  }
+
+  /**
+   * The supported subset of xpath location paths.
+   */
+  private static class LocationPath {
+
+    private final List<Step> steps = new ArrayList<Step>();
+    private Target target = Target.ELEMENT;
+    // axis and name of the last step when it does not select elements, null name standing for any attribute
+    private boolean descendant;
+    private String targetName;
+
+    static LocationPath parse(String xpath) {
+      
+      String expression = xpath.trim();
+      if (!expression.startsWith("/")) throw unsupported(xpath);
+      
+      LocationPath path = new LocationPath();
+      int position = 0;
+      while (position < expression.length()) {
+        
+        if (path.target != Target.ELEMENT || !expression.startsWith("/", position)) throw unsupported(xpath);
+        boolean descendant = expression.startsWith("//", position);
+        position += descendant ? 2 : 1;
+        int end = endOfStep(expression, position);
+        String step = expression.substring(position, end).trim();
+        position = end;
+        
+        if ("text()".equals(step)) {
+          path.select(Target.TEXT, descendant, null);
+        } else if ("comment()".equals(step)) {
+          path.select(Target.COMMENT, descendant, null);
+        } else if (step.startsWith("@")) {
+          String name = step.substring(1);
+          if (!isNameTest(name)) throw unsupported(xpath);
+          path.select(Target.ATTRIBUTE, descendant, "*".equals(name) ? null : name);
+        } else {
+          path.steps.add(Step.parse(step, descendant, xpath));
+        }
+      }
+      return path;
+    }
+
+    private void select(Target target, boolean descendant, String name) {
+      this.target = target;
+      this.descendant = descendant;
+      this.targetName = name;
+    }
+
+    private static int endOfStep(String expression, int start) {
+      boolean inPredicate = false;
+      char quote = 0;
+      for (int i = start; i < expression.length(); i++) {
+        char c = expression.charAt(i);
+        if (quote != 0) {
+          if (c == quote) quote = 0;
+        } else if (inPredicate && (c == '\'' || c == '"')) {
+          quote = c;
+        } else if (c == '[') {
+          inPredicate = true;
+        } else if (c == ']') {
+          inPredicate = false;
+        } else if (c == '/' && !inPredicate) {
+          return i;
+        }
+      }
+      return expression.length();
+    }
+  }
+
+  /**
+   * An element step: a name test and attribute predicates.
+   */
+  private static class Step {
+
+    private final boolean descendant;
+    // null for any element
+    private final String name;
+    // attribute names mapped to their expected value, null when the attribute only has to be present
+    private final Map<String, String> attributes = new TreeMap<String, String>();
+
+    private Step(boolean descendant, String name) {
+      this.descendant = descendant;
+      this.name = "*".equals(name) ? null : name;
+    }
+
+    static Step parse(String step, boolean descendant, String xpath) {
+      
+      int predicates = step.indexOf('[');
+      String name = (predicates < 0 ? step : step.substring(0, predicates)).trim();
+      if (!isNameTest(name)) throw unsupported(xpath);
+      Step parsed = new Step(descendant, name);
+      
+      while (predicates >= 0 && predicates < step.length()) {
+        int end = endOfPredicate(step, predicates, xpath);
+        parsed.addPredicate(step.substring(predicates + 1, end).trim(), xpath);
+        predicates = end + 1;
+        while (predicates < step.length() && Character.isWhitespace(step.charAt(predicates))) {
+          predicates++;
+        }
+        if (predicates < step.length() && step.charAt(predicates) != '[') throw unsupported(xpath);
+      }
+      return parsed;
+    }
+
+    private static int endOfPredicate(String step, int start, String xpath) {
+      char quote = 0;
+      for (int i = start + 1; i < step.length(); i++) {
+        char c = step.charAt(i);
+        if (quote != 0) {
+          if (c == quote) quote = 0;
+        } else if (c == '\'' || c == '"') {
+          quote = c;
+        } else if (c == ']') {
+          return i;
+        }
+      }
+      throw unsupported(xpath);
+    }
+
+    private void addPredicate(String predicate, String xpath) {
+      
+      if (!predicate.startsWith("@")) throw unsupported(xpath);
+      int equals = predicate.indexOf('=');
+      String attribute = (equals < 0 ? predicate.substring(1) : predicate.substring(1, equals)).trim();
+      if (!isNameTest(attribute) || "*".equals(attribute)) throw unsupported(xpath);
+      if (equals < 0) {
+        attributes.put(attribute, null);
+        return;
+      }
+      String value = predicate.substring(equals + 1).trim();
+      if (value.length() < 2 || (value.charAt(0) != '\'' && value.charAt(0) != '"')
+          || value.charAt(value.length() - 1) != value.charAt(0)) {
+        throw unsupported(xpath);
+      }
+      attributes.put(attribute, value.substring(1, value.length() - 1));
+    }
+
+    boolean matches(String elementName, Map<String, String> elementAttributes) {
+      if (name != null && !name.equals(elementName)) return false;
+      for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+        String value = elementAttributes.get(attribute.getKey());
+        if (value == null) return false;
+        if (attribute.getValue() != null && !attribute.getValue().equals(value)) return false;
+      }
+      return true;
+    }
+  }
+
+  private static boolean isNameTest(String name) {
+    if ("*".equals(name)) return true;
+    if (name.length() == 0) return false;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && c != ':') return false;
+    }
+    return !Character.isDigit(name.charAt(0)) && name.charAt(0) != '-' && name.charAt(0) != '.';
+  }
+
+  private static IllegalArgumentException unsupported(String xpath) {
+    return new IllegalArgumentException(format("Unsupported xpath for streamed xml:<\"%s\">", xpath));
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static java.lang.String.format;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Thread-safe access to the parsing and xpath objects used by xml assertions.
+ * <p>
+ * Looking up {@link DocumentBuilderFactory} and {@link XPathFactory} goes through the service loader which is much
+ * slower than parsing small xml snippets, moreover neither {@link DocumentBuilder}, {@link XPath} nor
+ * {@link XPathExpression} are thread-safe (nor is {@link XMLInputFactory} required to be). This class keeps one instance
+ * of each per thread, along with the last compiled xpath expressions.
+ * </p>
+ */
+final class XmlFactories {
+
+  private static final int MAX_CACHED_EXPRESSIONS = 64;
+  private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<DocumentBuilder>() {
+    @Override
+    protected DocumentBuilder initialValue() {
+      try {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+      } catch (ParserConfigurationException e) {
+        throw new IllegalStateException("Unable to create a DocumentBuilder", e);
+      }
+    }
+  };
+
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = new ThreadLocal<XMLInputFactory>() {
+    @Override
+    protected XMLInputFactory initialValue() {
+      XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+      // the JDK parser reports CDATA sections as texts unless asked not to, whereas DOM keeps them apart
+      if (xmlInputFactory.isPropertySupported(REPORT_CDATA_EVENT)) xmlInputFactory.setProperty(REPORT_CDATA_EVENT, true);
+      return xmlInputFactory;
+    }
+  };
+
+  private static final ThreadLocal<XPathCache> XPATH_CACHE = new ThreadLocal<XPathCache>() {
+    @Override
+    protected XPathCache initialValue() {
+      return new XPathCache(XPathFactory.newInstance().newXPath());
+    }
+  };
+
+  private XmlFactories() {
+    // utility class
+  }
+
+  /**
+   * Returns the {@link DocumentBuilder} of the current thread, reset to its initial configuration.
+   * <p>
+   * The returned builder must not be shared with other threads.
+   * </p>
+   * 
+   * @return the {@link DocumentBuilder} of the current thread.
+   */
+  static DocumentBuilder documentBuilder() {
+    DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+    documentBuilder.reset();
+    return documentBuilder;
+  }
+
+  /**
+   * Returns the {@link XMLInputFactory} of the current thread.
+   * 
+   * @return the {@link XMLInputFactory} of the current thread.
+   */
+  static XMLInputFactory xmlInputFactory() {
+    return XML_INPUT_FACTORY.get();
+  }
+
+  /**
+   * Returns the compiled form of the given xpath expression, compiling it only if the current thread has not recently
+   * done so.
+   * <p>
+   * The returned expression must not be shared with other threads.
+   * </p>
+   * 
+   * @param xpath the xpath expression to compile.
+   * @return the compiled xpath expression.
+   * @throws IllegalArgumentException if the given expression is not a valid xpath expression.
+   */
+  static XPathExpression compile(String xpath) {
+    return XPATH_CACHE.get().compile(xpath);
+  }
+
+  @SuppressWarnings("serial")
+  private static class XPathCache extends LinkedHashMap<String, XPathExpression> {
+
+    private final XPath xpath;
+
+    XPathCache(XPath xpath) {
+      super(16, 0.75f, true);
+      this.xpath = xpath;
+    }
+
+    XPathExpression compile(String expression) {
+      XPathExpression compiled = get(expression);
+      if (compiled == null) {
+        try {
+          compiled = xpath.compile(expression);
+        } catch (XPathExpressionException e) {
+          throw new IllegalArgumentException(format("Invalid xpath:<\"%s\">", expression), e);
+        }
+        put(expression, compiled);
+      }
+      return compiled;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+      return size() > MAX_CACHED_EXPRESSIONS;
+    }
+  }
+}
@@ -15,14 +15,13 @@
 package org.assertj.core.util.xml;
 
 import java.io.StringReader;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.w3c.dom.Text;
@@ -63,6 +62,22 @@ public class XmlUtil {
     };
   }
 
+  public static NodeList nodeList(final List<Node> nodes) {
+    
+    return new NodeList() {
+      
+      @Override
+      public Node item(int index) {
+        return index < 0 || index >= nodes.size() ? null : nodes.get(index);
+      }
+      
+      @Override
+      public int getLength() {
+        return nodes.size();
+      }
+    };
+  }
+
   public static Node parseNode(String xmlString) {
     
     try {
@@ -96,9 +111,7 @@ public class XmlUtil {
   
   public static Node doParse(String xmlString) throws Exception {
 
-    DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-    DocumentBuilder db = dbf.newDocumentBuilder();
-    Document document = db.parse(new InputSource(new StringReader(xmlString)));
+    Document document = XmlFactories.documentBuilder().parse(new InputSource(new StringReader(xmlString)));
     
     // normalize xml document by removing text nodes with whitespaces only  
     removeEmptyTextNodes(document.getDocumentElement());
@@ -135,6 +148,41 @@ public class XmlUtil {
     return left.isEqualNode(right);
   }
 
+  /**
+   * Returns a hash code of the given node consistent with {@link #areEqual(Node, Node)}: it covers the type, name,
+   * namespace and value of the node, its attributes regardless of their order and its children in order.
+   * 
+   * @param node the node to hash, may be <code>null</code>.
+   * @return the structural hash code of the given node.
+   */
+  public static int structuralHashCode(Node node) {
+    
+    if(node == null) return 0;
+    
+    int hash = node.getNodeType();
+    hash = 31 * hash + hashCodeOf(node.getNodeName());
+    hash = 31 * hash + hashCodeOf(node.getNamespaceURI());
+    hash = 31 * hash + hashCodeOf(node.getNodeValue());
+    
+    NamedNodeMap attributes = node.getAttributes();
+    if(attributes != null){
+      int attributesHash = 0;
+      for (int i = 0; i < attributes.getLength(); i++) {
+        attributesHash += structuralHashCode(attributes.item(i));
+      }
+      hash = 31 * hash + attributesHash;
+    }
+    
+    for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+      hash = 31 * hash + structuralHashCode(child);
+    }
+    return hash;
+  }
+
+  private static int hashCodeOf(String value) {
+    return value == null ? 0 : value.hashCode();
+  }
+
   public static String toStringOf(Node node) {
     
     if(node.getNodeType() == Node.ATTRIBUTE_NODE){
@@ -22,6 +22,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.test.Maps;
@@ -204,4 +205,95 @@ public class SoftAssertionsTest {
     }
   }
 
+  @Test
+  public void should_reuse_proxy_class_of_assert_class_and_collect_errors_of_each_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    SoftAssertions otherSoftly = new SoftAssertions();
+    IterableAssert<Integer> iterableAssert = softly.assertThat((Iterable<Integer>) Lists.newArrayList(1, 2));
+    IterableAssert<Integer> iteratorAssert = otherSoftly.assertThat(Lists.newArrayList(1, 2).iterator());
+    assertThat(iteratorAssert.getClass()).isSameAs(iterableAssert.getClass());
+    iterableAssert.contains(3);
+    iteratorAssert.contains(1);
+    otherSoftly.assertThat(1).isEqualTo(2);
+    assertThat(softly.collector.errors()).hasSize(1);
+    assertThat(otherSoftly.collector.errors()).hasSize(1);
+  }
+
+  @Test
+  public void should_create_custom_assertions_whose_constructor_needs_actual_value() {
+    CustomSoftAssertions softly = new CustomSoftAssertions();
+    softly.assertThatNumber(5).isEven();
+    softly.assertThatNumber(6).isEven();
+    assertThat(softly.collector.errors()).hasSize(1);
+    assertThat(softly.collector.errors().get(0)).hasMessage("5 is not even");
+  }
+
+  @Test
+  public void should_report_values_as_they_were_when_assertion_failed() {
+    SoftAssertions softly = new SoftAssertions();
+    List<String> list = Lists.newArrayList("a");
+    softly.assertThat(list).isEmpty();
+    list.add("b");
+    assertThat(softly.collector.errors().get(0).getMessage()).contains("<[\"a\"]>").doesNotContain("\"b\"");
+  }
+
+  @Test
+  public void should_collect_errors_of_all_threads_in_the_order_they_occurred() throws Exception {
+    final SoftAssertions softly = SoftAssertions.concurrentSoftAssertions();
+    final CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = Lists.newArrayList();
+    for (int t = 0; t < 4; t++) {
+      final int threadNumber = t;
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int i = 0; i < 1000; i++) {
+            softly.assertThat(i).isEqualTo(i);
+            softly.assertThat(threadNumber + ":" + i).isEmpty();
+          }
+        }
+      };
+      threads.add(thread);
+      thread.start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    List<Throwable> errors = softly.collector.errors();
+    assertThat(errors).hasSize(4000);
+    int[] nextErrorOfThread = new int[4];
+    for (Throwable error : errors) {
+      String value = error.getMessage().split("\"")[1];
+      int threadNumber = Integer.parseInt(value.substring(0, 1));
+      assertThat(value).isEqualTo(threadNumber + ":" + nextErrorOfThread[threadNumber]++);
+    }
+  }
+
+  public static class CustomSoftAssertions extends AbstractSoftAssertions {
+    public EvenAssert assertThatNumber(int actual) {
+      return proxy(EvenAssert.class, int.class, actual);
+    }
+  }
+
+  public static class EvenAssert {
+    private final boolean even;
+    private final int actual;
+
+    public EvenAssert(int actual) {
+      this.actual = actual;
+      this.even = actual % 2 == 0;
+    }
+
+    public EvenAssert isEven() {
+      if (!even) throw new AssertionError(actual + " is not even");
+      return this;
+    }
+  }
+
 }
@@ -21,9 +21,12 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.test.ExpectedException.none;
 import static org.assertj.core.util.Dates.parseDatetime;
 import static org.assertj.core.util.Dates.parseDatetimeWithMs;
+import static org.assertj.core.util.Lists.newArrayList;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -118,4 +121,39 @@ public class DateAssert_with_string_based_date_representation_Test extends DateA
     Assertions.useDefaultDateFormats();
   }
 
+  @Test
+  public void should_parse_date_string_representations_from_several_threads() throws Exception {
+    Assertions.useDateFormat("yyyy/MM/dd HH:mm");
+    try {
+      final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+      List<Thread> threads = newArrayList();
+      for (int t = 0; t < 4; t++) {
+        final int year = 2000 + t;
+        Thread thread = new Thread() {
+          @Override
+          public void run() {
+            try {
+              for (int day = 1; day <= 28; day++) {
+                for (int hour = 0; hour < 24; hour++) {
+                  Date date = parseDatetime(String.format("%d-02-%02dT%02d:00:00", year, day, hour));
+                  assertThat(date).isEqualTo(String.format("%d/02/%02d %02d:00", year, day, hour));
+                }
+              }
+            } catch (Throwable e) {
+              errors.add(e);
+            }
+          }
+        };
+        threads.add(thread);
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertThat(errors).isEmpty();
+    } finally {
+      Assertions.useDefaultDateFormats();
+    }
+  }
+
 }
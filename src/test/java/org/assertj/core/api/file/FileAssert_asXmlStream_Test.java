@@ -0,0 +1,51 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.api.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Files.newTemporaryFile;
+
+import java.io.File;
+
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.util.TextFileWriter;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link org.assertj.core.api.AbstractFileAssert#asXmlStream()}</code>.
+ */
+public class FileAssert_asXmlStream_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void should_query_xml_file_as_a_stream() throws Exception {
+    File file = newTemporaryFile();
+    try {
+      TextFileWriter.instance().write(file, "<movies><movie/><movie/></movies>");
+      assertThat(file).asXmlStream().extractingXPath("//movie").hasSize(2);
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_file() {
+    thrown.expectAssertionError("to be a file");
+    assertThat(new File("xml/not/found.xml")).asXmlStream();
+  }
+}
@@ -7,6 +7,11 @@ import static org.assertj.core.api.filter.Filters.filter;
 
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.test.Player;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 import org.junit.Test;
@@ -42,4 +47,57 @@ public class Filter_on_differents_properties_Test extends AbstractTest_filter {
     }
   }
 
-}
\ No newline at end of file
+  @Test
+  public void should_evaluate_conditions_once_on_elements_matching_property_criteria() {
+    final List<Player> evaluatedPlayers = new ArrayList<Player>();
+    Condition<Player> recordingCondition = new Condition<Player>() {
+      @Override
+      public boolean matches(Player player) {
+        evaluatedPlayers.add(player);
+        return true;
+      }
+    };
+    Filters<Player> filters = filter(players).having(recordingCondition).with("team").equalsTo("Chicago Bulls")
+                                             .and("reboundsPerGame").notEqualsTo(11);
+    assertThat(filters.get()).containsOnly(rose);
+    assertThat(filters.get()).containsOnly(rose);
+    assertThat(evaluatedPlayers).containsExactly(rose);
+  }
+
+  @Test
+  public void should_not_read_property_of_elements_discarded_by_previous_criteria() {
+    List<Object> playersAndTeams = new ArrayList<Object>(players);
+    playersAndTeams.add("Chicago Bulls");
+    final List<Object> evaluatedValues = new ArrayList<Object>();
+    Condition<Object> player = new Condition<Object>() {
+      @Override
+      public boolean matches(Object value) {
+        evaluatedValues.add(value);
+        return value instanceof Player;
+      }
+    };
+    Filters<Object> filters = filter(playersAndTeams).being(player).with("team").equalsTo("OKC");
+    assertThat(evaluatedValues).isEmpty();
+    assertThat(filters.get()).containsOnly(durant);
+    assertThat(evaluatedValues).containsOnly(durant, "Chicago Bulls").hasSize(2);
+  }
+
+  @Test
+  public void should_evaluate_failing_condition_once() {
+    final List<Player> evaluatedPlayers = new ArrayList<Player>();
+    Condition<Player> failingCondition = new Condition<Player>() {
+      @Override
+      public boolean matches(Player player) {
+        evaluatedPlayers.add(player);
+        throw new IllegalStateException("boom");
+      }
+    };
+    try {
+      filter(players).with("team").equalsTo("OKC").being(failingCondition).get();
+      fail("IllegalStateException expected");
+    } catch (IllegalStateException e) {
+      assertThat(evaluatedPlayers).containsExactly(durant);
+    }
+  }
+
+}
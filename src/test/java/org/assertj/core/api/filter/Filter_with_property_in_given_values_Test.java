@@ -28,6 +28,12 @@ public class Filter_with_property_in_given_values_Test extends AbstractTest_filt
     assertThat(players).hasSize(4);
   }
 
+  @Test
+  public void should_filter_iterable_elements_with_property_in_given_values_including_null() {
+    Iterable<Player> filteredPlayers = filter(players).with("reboundsPerGame").in(null, 5, 11, "5").get();
+    assertThat(filteredPlayers).containsOnly(rose, durant, noah);
+  }
+
   @Test
   public void should_fail_if_property_to_filter_on_is_null() {
     try {
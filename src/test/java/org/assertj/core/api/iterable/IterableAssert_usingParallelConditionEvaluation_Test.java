@@ -0,0 +1,78 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.api.AbstractIterableAssert;
+import org.assertj.core.api.Condition;
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#usingParallelConditionEvaluation()}</code> and
+ * <code>{@link AbstractIterableAssert#usingParallelConditionEvaluation(ExecutorService)}</code>.
+ */
+public class IterableAssert_usingParallelConditionEvaluation_Test {
+
+  private ExecutorService executor;
+  private List<String> names;
+  private Set<Thread> evaluatingThreads;
+  private Condition<String> shortName;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    names = new ArrayList<String>();
+    for (int i = 0; i < 200; i++) {
+      names.add(i % 3 == 0 ? "Yoda" : "Luke Skywalker");
+    }
+    evaluatingThreads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+    shortName = new Condition<String>("short name") {
+      @Override
+      public boolean matches(String name) {
+        evaluatingThreads.add(Thread.currentThread());
+        return name.length() < 5;
+      }
+    };
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void should_evaluate_conditions_in_parallel_even_when_element_comparator_changes() {
+    assertThat(names).usingParallelConditionEvaluation().areExactly(67, shortName);
+    evaluatingThreads.clear();
+    assertThat(names).usingParallelConditionEvaluation(executor)
+                     .usingElementComparator(CaseInsensitiveStringComparator.instance).contains("YODA")
+                     .areExactly(67, shortName);
+    evaluatingThreads.remove(Thread.currentThread());
+    assertFalse(evaluatingThreads.isEmpty());
+  }
+}
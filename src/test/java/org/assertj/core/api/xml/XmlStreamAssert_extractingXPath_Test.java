@@ -0,0 +1,108 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.api.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Files.newTemporaryFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+
+import org.assertj.core.util.TextFileWriter;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link XmlStreamAssert#extractingXPath(String)}</code>.
+ */
+public class XmlStreamAssert_extractingXPath_Test extends AbstractXmlNodeSetAssertTest {
+
+  @Override
+  protected XmlNodeSetAssert invoke_successfully_method_under_test(XmlNodeSetAssert originalAssertion) {
+    return new XmlStreamAssert(xml).extractingXPath("/continents");
+  }
+
+  @Override
+  protected void verify_chained_assertion(XmlNodeSetAssert originalAssertion, XmlNodeSetAssert assertionToChain) {
+    assertThat(assertionToChain).isNotNull();
+    assertThat(originalAssertion).isNotSameAs(assertionToChain);
+  }
+
+  @Test
+  public void should_extract_zero_elements() throws Exception {
+    new XmlStreamAssert(xml).extractingXPath("//atlantis").hasSize(0);
+  }
+
+  @Test
+  public void should_extract_some_elements() throws Exception {
+    XmlStreamAssert xmlAssert = new XmlStreamAssert(xml);
+
+    xmlAssert.extractingXPath("//continent").hasSize(7);
+    xmlAssert.extractingXPath("//continent[@inhabited='true']").hasSize(6);
+    xmlAssert.extractingXPath("/continents/continent[@inhabited='false']").isElement().isEqualTo(antarctica);
+    xmlAssert.extractingXPath("/continents/*[@name='Europe']").contains(europe);
+  }
+
+  @Test
+  public void should_extract_attributes_texts_and_comments() throws Exception {
+    XmlStreamAssert xmlAssert = new XmlStreamAssert(xml);
+
+    xmlAssert.extractingXPath("//continent[@name='Asia']/@*").containsExactly("@inhabited='true'", "@name='Asia'");
+    xmlAssert.extractingXPath("//continent[@name='Asia']/area/text()").isTextNode().isEqualTo("43820000");
+    xmlAssert.extractingXPath("//continent/comment()").hasSize(3);
+    xmlAssert.extractingXPath("/continents//text()").hasSize(7);
+  }
+
+  @Test
+  public void should_stream_file_and_input_stream() throws Exception {
+    File file = newTemporaryFile();
+    try {
+      TextFileWriter.instance().write(file, xml);
+      new XmlStreamAssert(file).extractingXPath("//continent[@name='Europe']/area").isEqualTo("<area>10180000</area>");
+    } finally {
+      file.delete();
+    }
+    new XmlStreamAssert(new ByteArrayInputStream(xml.getBytes("UTF-8"))).extractingXPath("//continent").hasSize(7);
+  }
+
+  @Test
+  public void should_be_chainable() throws Exception {
+    new XmlStreamAssert(xml).extractingXPath("//continent[@name='Europe']").extractingXPath("/continent/area")
+                            .hasSize(1);
+  }
+
+  @Test
+  public void should_fail_if_xml_is_not_well_formed() throws Exception {
+    // the xml is described and the parsing error located
+    thrown.expectAssertionError("\nExpecting xml document but xml:<\"<continents><continent></continents>\"> "
+                                + "is not well formed:\n");
+    thrown.expectMessage("[row,col]:[1,35]");
+
+    new XmlStreamAssert("<continents><continent></continents>").extractingXPath("//continent");
+  }
+
+  @Test
+  public void should_fail_meaningfully_if_xpath_is_not_supported() throws Exception {
+    thrown.expectIllegalArgumentException("Unsupported xpath for streamed xml:<\"//continent[1]\">");
+
+    new XmlStreamAssert(xml).extractingXPath("//continent[1]");
+  }
+
+  @Test
+  public void should_fail_meaningfully_if_xpath_is_empty() throws Exception {
+    thrown.expectIllegalArgumentException("XPath expression cannot be empty!");
+
+    new XmlStreamAssert(xml).extractingXPath("");
+  }
+}
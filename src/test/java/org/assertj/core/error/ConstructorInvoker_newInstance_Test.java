@@ -40,4 +40,17 @@ public class ConstructorInvoker_newInstance_Test {
     Exception e = (Exception) o;
     assertEquals("Hi", e.getMessage());
   }
+
+  @Test
+  public void should_return_null_if_class_is_not_in_classpath() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      assertNull(invoker.newInstance("org.unknown.ComparisonFailure", new Class<?>[] { String.class },
+                                     new Object[] { "Hi" }));
+    }
+  }
+
+  @Test(expected = NoSuchMethodException.class)
+  public void should_fail_if_constructor_does_not_exist() throws Exception {
+    invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, new Object[] { 8 });
+  }
 }
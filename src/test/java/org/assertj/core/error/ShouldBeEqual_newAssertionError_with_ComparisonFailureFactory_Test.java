@@ -0,0 +1,67 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.assertj.core.api.Assertions.setComparisonFailureFactory;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+
+import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ShouldBeEqual#newAssertionError(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * using <code>{@link org.assertj.core.api.Assertions#setComparisonFailureFactory(ComparisonFailureFactory)}</code>.
+ */
+public class ShouldBeEqual_newAssertionError_with_ComparisonFailureFactory_Test {
+
+  @After
+  public void tearDown() {
+    setComparisonFailureFactory(null);
+  }
+
+  @Test
+  public void should_create_error_with_given_ComparisonFailureFactory() {
+    final AssertionError comparisonFailure = new AssertionError("comparison failure");
+    setComparisonFailureFactory(new ComparisonFailureFactory() {
+      @Override
+      public AssertionError newComparisonFailure(String message, String expected, String actual) {
+        assertEquals("[Jedi]", message);
+        assertEquals("\"Yoda\"", expected);
+        assertEquals("\"Luke\"", actual);
+        return comparisonFailure;
+      }
+    });
+    AssertionError error = shouldBeEqual("Luke", "Yoda", new StandardRepresentation())
+        .newAssertionError(new TestDescription("Jedi"), new StandardRepresentation());
+    assertSame(comparisonFailure, error);
+  }
+
+  @Test
+  public void should_fall_back_to_AssertJ_error_message_if_ComparisonFailureFactory_returns_null() {
+    setComparisonFailureFactory(new ComparisonFailureFactory() {
+      @Override
+      public AssertionError newComparisonFailure(String message, String expected, String actual) {
+        return null;
+      }
+    });
+    AssertionError error = shouldBeEqual("Luke", "Yoda", new StandardRepresentation())
+        .newAssertionError(new TestDescription("Jedi"), new StandardRepresentation());
+    assertEquals("[Jedi] \nExpecting:\n <\"Yoda\">\nto be equal to:\n <\"Luke\">\nbut was not.", error.getMessage());
+  }
+}
@@ -55,6 +55,13 @@ public class FieldsOrPropertiesExtractor_extract_tuples_test {
     assertThat(extractedValues).containsOnly(tuple(1L, 800), tuple(2L, 26));
   }
   
+  @Test
+  public void should_extract_tuples_from_fields_and_properties_of_different_classes() {
+    List<Employee> people = newArrayList(yoda, new Employee(3L, new Name("Leia"), 26) {}, luke);
+    List<Tuple> extractedValues = extract(people, "id", "adult", "age");
+    assertThat(extractedValues).containsExactly(tuple(1L, true, 800), tuple(3L, true, 26), tuple(2L, true, 26));
+  }
+
   @Test
   public void should_extract_tuples_with_consistent_iteration_order() {
     Set<Employee> employeeSet =  new HashSet<Employee>(employees);
@@ -68,6 +75,28 @@ public class FieldsOrPropertiesExtractor_extract_tuples_test {
     extract(employees, "id", "age", "unknown");
   }
   
+  @Test
+  public void should_read_fields_instead_of_failing_properties_without_calling_getters_again() {
+    final List<String> readAges = newArrayList();
+    Employee han = new Employee(3L, new Name("Han"), 32) {
+      @Override
+      public int getAge() {
+        readAges.add("Han");
+        return super.getAge();
+      }
+    };
+    Employee leia = new Employee(4L, new Name("Leia"), 26) {
+      @Override
+      public int getAge() {
+        readAges.add("Leia");
+        throw new IllegalStateException("age is a secret");
+      }
+    };
+    List<Tuple> extractedValues = extract(newArrayList(han, leia), "id", "age");
+    assertThat(extractedValues).containsExactly(tuple(3L, 32), tuple(4L, 26));
+    assertThat(readAges).containsExactly("Han", "Leia");
+  }
+
   @Test
   public void should_throw_exception_when_given_name_is_null() {
     thrown.expectIllegalArgumentException("The names of the fields/properties to read should not be null");
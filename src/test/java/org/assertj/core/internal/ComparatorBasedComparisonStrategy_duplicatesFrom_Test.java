@@ -41,6 +41,13 @@ public class ComparatorBasedComparisonStrategy_duplicatesFrom_Test extends Abstr
     assertTrue(caseInsensitiveComparisonStrategy.iterableContains(duplicates, null));
   }
 
+  @Test
+  public void should_return_sorted_duplicates_followed_by_null() {
+    Iterable<?> duplicates = caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList(null, "Sam", "Merry", "SAM",
+        null, "merry", "Frodo", "sam"));
+    assertEquals(newArrayList("merry", "SAM", null), newArrayList(duplicates));
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
@@ -0,0 +1,92 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.assertj.core.api.Condition;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ConditionEvaluator}</code>.
+ */
+public class ConditionEvaluator_Test {
+
+  private final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
+  private final List<Integer> numbers = newArrayList(2, 4, 5, 6, 7, 8);
+  private CountingEvenCondition even;
+
+  @Before
+  public void setUp() {
+    even = new CountingEvenCondition();
+  }
+
+  @Test
+  public void should_stop_evaluating_condition_once_at_least_n_elements_match() {
+    assertTrue(conditionEvaluator.atLeastNElementsMatch(numbers, 2, even));
+    assertEquals(2, even.evaluations);
+  }
+
+  @Test
+  public void should_not_evaluate_condition_if_at_least_zero_elements_should_match() {
+    assertTrue(conditionEvaluator.atLeastNElementsMatch(numbers, 0, even));
+    assertEquals(0, even.evaluations);
+  }
+
+  @Test
+  public void should_evaluate_condition_on_all_elements_if_less_than_n_elements_match() {
+    assertFalse(conditionEvaluator.atLeastNElementsMatch(numbers, 5, even));
+    assertEquals(6, even.evaluations);
+  }
+
+  @Test
+  public void should_stop_evaluating_condition_once_more_than_n_elements_match() {
+    assertFalse(conditionEvaluator.atMostNElementsMatch(numbers, 2, even));
+    assertEquals(4, even.evaluations);
+    even.evaluations = 0;
+    assertFalse(conditionEvaluator.exactlyNElementsMatch(numbers, 1, even));
+    assertEquals(2, even.evaluations);
+  }
+
+  @Test
+  public void should_count_matching_elements_up_to_the_end() {
+    assertTrue(conditionEvaluator.atMostNElementsMatch(numbers, 4, even));
+    assertTrue(conditionEvaluator.exactlyNElementsMatch(numbers, 4, even));
+    assertTrue(conditionEvaluator.atMostNElementsMatch(numbers, Integer.MAX_VALUE, even));
+    assertFalse(conditionEvaluator.exactlyNElementsMatch(numbers, Integer.MAX_VALUE, even));
+  }
+
+  @Test
+  public void should_return_matching_and_not_matching_elements_in_iteration_order() {
+    assertEquals(newArrayList(2, 4, 6, 8), conditionEvaluator.elementsMatching(numbers, even));
+    assertEquals(newArrayList(5, 7), conditionEvaluator.elementsNotMatching(numbers, even));
+  }
+
+  private static class CountingEvenCondition extends Condition<Integer> {
+    private int evaluations;
+
+    @Override
+    public boolean matches(Integer value) {
+      evaluations++;
+      return value % 2 == 0;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Created on Apr 12, 2014
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.internal.ElementIndex.newIndex;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.assertj.core.test.CollidingHashCode;
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ElementIndex}</code>.
+ */
+public class ElementIndex_Test {
+
+  private final ComparisonStrategy caseInsensitiveComparisonStrategy = new ComparatorBasedComparisonStrategy(
+      CaseInsensitiveStringComparator.instance);
+
+  @Test
+  public void should_group_equal_elements_according_to_standard_comparison_strategy() {
+    ElementIndex index = newIndex(StandardComparisonStrategy.instance(),
+                                  newArrayList("Luke", "Yoda", null, "Luke", null, "Leia", "Luke"));
+    assertEquals(3, index.count("Luke"));
+    assertEquals(2, index.count(null));
+    assertEquals(1, index.count("Yoda"));
+    assertEquals(0, index.count("LUKE"));
+    assertFalse(index.contains("Han"));
+  }
+
+  @Test
+  public void should_group_equal_elements_according_to_comparator_based_comparison_strategy() {
+    ElementIndex index = newIndex(caseInsensitiveComparisonStrategy,
+                                  newArrayList("Luke", "Yoda", null, "LUKE", null, "Leia", "luke"));
+    assertEquals(3, index.count("Luke"));
+    assertEquals(2, index.count(null));
+    assertTrue(index.contains("YODA"));
+    assertFalse(index.contains("Han"));
+  }
+
+  @Test
+  public void should_group_equal_elements_according_to_custom_comparison_strategy() {
+    ElementIndex index = newIndex(new FieldByFieldComparisonStrategy(),
+                                  newArrayList(new Jedi("Luke"), new Jedi("Yoda"), new Jedi("Luke")));
+    assertEquals(2, index.count(new Jedi("Luke")));
+    assertFalse(index.contains(new Jedi("Leia")));
+  }
+
+  @Test
+  public void should_tell_whether_added_element_was_already_indexed() {
+    ElementIndex index = newIndex(caseInsensitiveComparisonStrategy);
+    assertTrue(index.add("Luke"));
+    assertFalse(index.add("LUKE"));
+    assertTrue(index.add(null));
+    assertFalse(index.add(null));
+  }
+
+  @Test
+  public void should_remove_all_equal_elements_in_insertion_order() {
+    ElementIndex index = newIndex(caseInsensitiveComparisonStrategy, newArrayList("Luke", "Yoda", "LUKE", "luke"));
+    List<Object> removed = index.removeAll("lUKe");
+    assertEquals(newArrayList("Luke", "LUKE", "luke"), removed);
+    assertFalse(index.contains("Luke"));
+    assertTrue(index.removeAll("Luke").isEmpty());
+    assertTrue(index.contains("Yoda"));
+  }
+
+  @Test
+  public void should_hash_arrays_as_standard_comparison_strategy_compares_them() {
+    ElementIndex index = newIndex(StandardComparisonStrategy.instance());
+    index.add(new int[] { 1, 2 });
+    index.add(new String[] { "Luke", null });
+    assertTrue(index.contains(new Integer[] { 1, 2 }));
+    assertFalse(index.contains(null));
+    assertTrue(index.contains(new String[] { "Luke", null }));
+    assertFalse(index.contains(new int[] { 2, 1 }));
+  }
+
+  @Test
+  public void should_look_up_elements_with_colliding_hash_codes() {
+    ElementIndex index = newIndex(StandardComparisonStrategy.instance());
+    for (int i = 0; i < 1000; i++) {
+      index.add(new CollidingHashCode(i));
+    }
+    assertEquals(1, index.count(new CollidingHashCode(500)));
+    assertFalse(index.contains(new CollidingHashCode(1000)));
+  }
+
+  public static class Jedi {
+    public final String name;
+
+    Jedi(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.api.Condition;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ParallelConditionEvaluator}</code>.
+ */
+public class ParallelConditionEvaluator_Test {
+
+  private ExecutorService executor;
+  private ConditionEvaluator sequentialEvaluator;
+  private ParallelConditionEvaluator parallelEvaluator;
+  private List<Integer> numbers;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+    sequentialEvaluator = ConditionEvaluator.instance();
+    parallelEvaluator = new ParallelConditionEvaluator(executor);
+    numbers = new ArrayList<Integer>();
+    for (int i = 0; i < 1000; i++) {
+      numbers.add(i);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void should_return_same_elements_in_same_order_as_sequential_evaluation() {
+    Condition<Integer> multipleOfSeven = new Condition<Integer>() {
+      @Override
+      public boolean matches(Integer value) {
+        return value % 7 == 0;
+      }
+    };
+    assertEquals(sequentialEvaluator.elementsMatching(numbers, multipleOfSeven),
+                 parallelEvaluator.elementsMatching(numbers, multipleOfSeven));
+    assertEquals(sequentialEvaluator.elementsNotMatching(numbers, multipleOfSeven),
+                 parallelEvaluator.elementsNotMatching(numbers, multipleOfSeven));
+    assertTrue(parallelEvaluator.exactlyNElementsMatch(numbers, 143, multipleOfSeven));
+    assertTrue(parallelEvaluator.atLeastNElementsMatch(numbers, 143, multipleOfSeven));
+    assertFalse(parallelEvaluator.atLeastNElementsMatch(numbers, 144, multipleOfSeven));
+    assertTrue(parallelEvaluator.atMostNElementsMatch(numbers, 143, multipleOfSeven));
+    assertFalse(parallelEvaluator.atMostNElementsMatch(numbers, 142, multipleOfSeven));
+  }
+
+  @Test
+  public void should_evaluate_condition_in_executor_threads() {
+    final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+    Condition<Integer> recordingThreads = new Condition<Integer>() {
+      @Override
+      public boolean matches(Integer value) {
+        threads.add(Thread.currentThread());
+        return true;
+      }
+    };
+    assertEquals(numbers, parallelEvaluator.elementsMatching(numbers, recordingThreads));
+    threads.remove(Thread.currentThread());
+    assertFalse(threads.isEmpty());
+  }
+
+  @Test
+  public void should_throw_exception_of_first_failing_element_in_iteration_order() {
+    try {
+      parallelEvaluator.elementsMatching(numbers, failingFrom(100, 900));
+      fail("IllegalStateException expected");
+    } catch (IllegalStateException e) {
+      assertEquals("100", e.getMessage());
+    }
+  }
+
+  @Test
+  public void should_not_throw_exception_of_elements_after_the_count_is_reached() {
+    assertTrue(parallelEvaluator.atLeastNElementsMatch(numbers, 50, failingFrom(100, 900)));
+    try {
+      parallelEvaluator.atLeastNElementsMatch(numbers, 101, failingFrom(100, 900));
+      fail("IllegalStateException expected");
+    } catch (IllegalStateException e) {
+      assertEquals("100", e.getMessage());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void should_not_deadlock_when_condition_evaluates_elements_in_parallel_with_the_same_executor() {
+    final ParallelConditionEvaluator sharedEvaluator = new ParallelConditionEvaluator();
+    final Condition<Integer> even = new Condition<Integer>() {
+      @Override
+      public boolean matches(Integer value) {
+        return value % 2 == 0;
+      }
+    };
+    Condition<Integer> greaterThanAnEvenNumber = new Condition<Integer>() {
+      @Override
+      public boolean matches(Integer value) {
+        return !sharedEvaluator.elementsMatching(numbers.subList(0, value), even).isEmpty();
+      }
+    };
+    assertEquals(numbers.subList(1, numbers.size()), sharedEvaluator.elementsMatching(numbers, greaterThanAnEvenNumber));
+  }
+
+  @Test
+  public void should_fail_if_executor_is_null() {
+    try {
+      new ParallelConditionEvaluator(null);
+      fail("NullPointerException expected");
+    } catch (NullPointerException e) {
+      assertEquals("The executor evaluating conditions should not be null", e.getMessage());
+    }
+  }
+
+  private static Condition<Integer> failingFrom(final int... failingValues) {
+    return new Condition<Integer>() {
+      @Override
+      public boolean matches(Integer value) {
+        for (int failingValue : failingValues) {
+          if (value == failingValue) throw new IllegalStateException(String.valueOf(value));
+        }
+        return true;
+      }
+    };
+  }
+}
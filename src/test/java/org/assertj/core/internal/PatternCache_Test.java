@@ -0,0 +1,107 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.assertj.core.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PatternCache}</code>.
+ */
+public class PatternCache_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private PatternCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new PatternCache(2);
+  }
+
+  @Test
+  public void should_compile_pattern_once() {
+    Pattern pattern = cache.compile("Luke|Yoda");
+    assertSame(pattern, cache.compile("Luke|Yoda"));
+    assertTrue(pattern.matcher("Yoda").matches());
+    assertEquals(1, cache.missCount());
+    assertEquals(1, cache.hitCount());
+  }
+
+  @Test
+  public void should_cache_patterns_by_regex_and_flags() {
+    Pattern pattern = cache.compile("luke");
+    Pattern caseInsensitivePattern = cache.compile("luke", CASE_INSENSITIVE);
+    assertNotSame(pattern, caseInsensitivePattern);
+    assertTrue(caseInsensitivePattern.matcher("Luke").matches());
+    assertSame(caseInsensitivePattern, cache.compile("luke", CASE_INSENSITIVE));
+    assertEquals(2, cache.missCount());
+    assertEquals(1, cache.hitCount());
+  }
+
+  @Test
+  public void should_evict_least_recently_used_pattern_when_full() {
+    Pattern luke = cache.compile("Luke");
+    cache.compile("Yoda");
+    cache.compile("Luke");
+    cache.compile("Leia");
+    assertEquals(2, cache.size());
+    assertSame(luke, cache.compile("Luke"));
+    cache.compile("Yoda");
+    assertEquals(4, cache.missCount());
+    assertEquals(2, cache.hitCount());
+  }
+
+  @Test
+  public void should_not_cache_invalid_regex() {
+    try {
+      cache.compile("*Luke");
+    } catch (PatternSyntaxException e) {
+      assertEquals(0, cache.size());
+      assertEquals(1, cache.missCount());
+      return;
+    }
+    fail("PatternSyntaxException expected");
+  }
+
+  @Test
+  public void should_remove_patterns_and_reset_counts_when_cleared() {
+    cache.compile("Luke");
+    cache.compile("Luke");
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.missCount());
+    assertEquals(0, cache.hitCount());
+  }
+
+  @Test
+  public void should_throw_error_if_regex_is_null() {
+    thrown.expect(NullPointerException.class);
+    cache.compile(null);
+  }
+}
@@ -20,11 +20,13 @@ import static org.assertj.core.util.Iterables.sizeOf;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.test.CollidingHashCode;
 import org.junit.Test;
 
 /**
@@ -57,6 +59,28 @@ public class StandardComparisonStrategy_duplicatesFrom_Test extends AbstractTest
     assertEquals(3, sizeOf(duplicates));
   }
 
+  @Test
+  public void should_return_existing_duplicates_even_if_all_hash_codes_collide() {
+    List<CollidingHashCode> list = new ArrayList<CollidingHashCode>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(new CollidingHashCode(i));
+      list.add(new CollidingHashCode(999 - i));
+    }
+    list.add(new CollidingHashCode(1000));
+    Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(list);
+
+    assertEquals(1000, sizeOf(duplicates));
+    assertTrue(standardComparisonStrategy.iterableContains(duplicates, new CollidingHashCode(0)));
+    assertTrue(standardComparisonStrategy.iterableContains(duplicates, new CollidingHashCode(999)));
+    assertFalse(standardComparisonStrategy.iterableContains(duplicates, new CollidingHashCode(1000)));
+  }
+
+  @Test
+  public void should_return_duplicates_in_the_order_they_are_found() {
+    List<String> list = newArrayList("Merry", "Frodo", "Sam", "Frodo", "Merry", "Frodo");
+    assertEquals(newArrayList("Frodo", "Merry"), newArrayList(standardComparisonStrategy.duplicatesFrom(list)));
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
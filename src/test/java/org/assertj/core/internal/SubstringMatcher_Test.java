@@ -0,0 +1,68 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link SubstringMatcher}</code>.
+ */
+public class SubstringMatcher_Test {
+
+  @Test
+  public void should_find_first_index_of_overlapping_sequences() {
+    SubstringMatcher matcher = new SubstringMatcher(new CharSequence[] { "he", "she", "his", "hers", "x" }, false);
+    assertArrayEquals(new int[] { 2, 1, -1, 2, -1 }, matcher.firstIndexesIn("ushers"));
+  }
+
+  @Test
+  public void should_find_duplicated_and_empty_sequences() {
+    SubstringMatcher matcher = new SubstringMatcher(new CharSequence[] { "Yoda", "", "Yoda", "da" }, false);
+    assertArrayEquals(new int[] { 5, 0, 5, 7 }, matcher.firstIndexesIn("Luke Yoda"));
+  }
+
+  @Test
+  public void should_find_sequences_ignoring_case() {
+    SubstringMatcher matcher = new SubstringMatcher(new CharSequence[] { "YODA", "luke", "Leia" }, true);
+    assertArrayEquals(new int[] { 5, 0, -1 }, matcher.firstIndexesIn(new StringBuilder("LuKe yOdA")));
+  }
+
+  @Test
+  public void should_find_same_indexes_as_String_indexOf() {
+    Random random = new Random(42);
+    for (int run = 0; run < 200; run++) {
+      String text = randomString(random, 500);
+      CharSequence[] sequences = new CharSequence[20];
+      int[] expected = new int[sequences.length];
+      for (int i = 0; i < sequences.length; i++) {
+        sequences[i] = randomString(random, 1 + random.nextInt(6));
+        expected[i] = text.indexOf(sequences[i].toString());
+      }
+      assertArrayEquals(expected, new SubstringMatcher(sequences, false).firstIndexesIn(text));
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
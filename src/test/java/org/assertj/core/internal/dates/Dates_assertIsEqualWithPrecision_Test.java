@@ -74,6 +74,59 @@ public class Dates_assertIsEqualWithPrecision_Test extends DatesBaseTest {
     dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.DAYS);
   }
 
+  @Test
+  public void should_pass_if_hours_are_on_both_sides_of_noon() {
+    AssertionInfo info = someInfo();
+    Date other = parseDatetimeWithMs("2011-09-27T09:23:35.999");
+    dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.HOURS);
+  }
+
+  @Test
+  public void should_fail_if_hours_are_on_different_days() {
+    AssertionInfo info = someInfo();
+    Date other = parseDatetimeWithMs("2011-09-28T00:23:35.999");
+    try {
+      dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.HOURS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeEqual(actual, other, TimeUnit.HOURS));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_days_are_in_different_weeks_of_same_month() {
+    AssertionInfo info = someInfo();
+    Date other = parseDatetimeWithMs("2011-09-01T03:00:00.000");
+    dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.DAYS);
+  }
+
+  @Test
+  public void should_fail_if_year_not_equal() {
+    AssertionInfo info = someInfo();
+    Date other = parseDatetimeWithMs("2010-09-27T12:23:35.999");
+    try {
+      dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.DAYS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeEqual(actual, other, TimeUnit.DAYS));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_month_not_equal() {
+    AssertionInfo info = someInfo();
+    Date other = parseDatetimeWithMs("2011-10-27T12:23:35.999");
+    try {
+      dates.assertIsEqualWithPrecision(info, actual, other, TimeUnit.DAYS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeEqual(actual, other, TimeUnit.DAYS));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   @Test
   public void should_fail_if_ms_not_equal() {
     AssertionInfo info = someInfo();
@@ -15,7 +15,11 @@
 package org.assertj.core.internal.failures;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import org.assertj.core.api.AssertionInfo;
@@ -60,4 +64,25 @@ public class Failures_failure_with_ErrorMessage_Test {
     AssertionError failure = failures.failure(info, errorMessage);
     assertEquals("[description] my message", failure.getMessage());
   }
+
+  @Test
+  public void should_create_error_message_only_once_when_it_is_requested() {
+    Description description = new TestDescription("description");
+    info.description(description);
+    when(errorMessage.create(description, info.representation())).thenReturn("[description] my message");
+    AssertionError failure = failures.failure(info, errorMessage);
+    verifyZeroInteractions(errorMessage);
+    assertEquals("[description] my message", failure.getMessage());
+    assertEquals("java.lang.AssertionError: [description] my message", failure.toString());
+    verify(errorMessage, times(1)).create(description, info.representation());
+  }
+
+  @Test
+  public void should_remove_assertj_elements_from_stack_trace_when_it_is_requested() {
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    AssertionError failure = failures.failure(info, errorMessage);
+    for (StackTraceElement element : failure.getStackTrace()) {
+      assertFalse(element.getClassName().startsWith("org.assertj"));
+    }
+  }
 }
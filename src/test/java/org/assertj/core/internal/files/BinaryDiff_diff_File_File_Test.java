@@ -0,0 +1,112 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static junit.framework.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.util.TextFileWriter;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(File, File)}</code>.
+ */
+public class BinaryDiff_diff_File_File_Test {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static BinaryDiff binaryDiff;
+  private static TextFileWriter writer;
+
+  @BeforeClass
+  public static void setUpOnce() {
+    binaryDiff = new BinaryDiff();
+    writer = TextFileWriter.instance();
+  }
+
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    actual = folder.newFile("actual.txt");
+    expected = folder.newFile("expected.txt");
+  }
+
+  @Test
+  public void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    writer.write(actual, "test", "foo");
+    writer.write(expected, "test", "foo");
+    assertTrue(binaryDiff.diff(actual, expected).hasNoDiff());
+  }
+
+  @Test
+  public void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    writer.write(actual, "test");
+    writer.write(expected, "tesT");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(3, result.offset);
+    assertEquals("0x74", result.actual);
+    assertEquals("0x54", result.expected);
+  }
+
+  @Test
+  public void should_return_diff_if_actual_is_shorter() throws IOException {
+    writer.write(actual, "foo");
+    writer.write(expected, "foo", "bar");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(3 + System.getProperty("line.separator").length(), result.offset);
+    assertEquals("EOF", result.actual);
+    assertEquals("0x62", result.expected);
+  }
+
+  @Test
+  public void should_compare_files_bigger_than_a_read_block() throws IOException {
+    byte[] content = new byte[3 * 1024 * 1024 + 5];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    write(expected, content);
+    write(actual, content);
+    assertTrue(binaryDiff.diff(actual, expected).hasNoDiff());
+
+    content[2500001] = (byte) 0xFF;
+    write(actual, content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(2500001, result.offset);
+    assertEquals("0xFF", result.actual);
+  }
+
+  private static void write(File file, byte[] content) throws IOException {
+    OutputStream stream = new FileOutputStream(file);
+    try {
+      stream.write(content);
+    } finally {
+      stream.close();
+    }
+  }
+}
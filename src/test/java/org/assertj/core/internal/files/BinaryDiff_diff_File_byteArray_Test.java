@@ -14,11 +14,14 @@
  */
 package org.assertj.core.internal.files;
 
+import static java.util.Arrays.fill;
 import static junit.framework.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
@@ -98,4 +101,36 @@ public class BinaryDiff_diff_File_byteArray_Test {
     assertEquals("0x62", result.actual);
     assertEquals("EOF", result.expected);
   }
+
+  @Test
+  public void should_return_diff_in_file_bigger_than_mapped_threshold() throws IOException {
+    expected = new byte[3 * 1024 * 1024 + 5];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = (byte) i;
+    }
+    byte[] content = expected.clone();
+    content[expected.length - 2] = (byte) 0xAB;
+    write(actual, content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(expected.length - 2, result.offset);
+    assertEquals("0xAB", result.actual);
+    assertEquals("0x" + Integer.toHexString(expected[expected.length - 2] & 0xFF).toUpperCase(), result.expected);
+  }
+
+  @Test
+  public void should_return_no_diff_if_file_bigger_than_mapped_threshold_has_array_content() throws IOException {
+    expected = new byte[2 * 1024 * 1024];
+    fill(expected, (byte) 7);
+    write(actual, expected);
+    assertTrue(binaryDiff.diff(actual, expected).hasNoDiff());
+  }
+
+  private static void write(File file, byte[] content) throws IOException {
+    OutputStream stream = new FileOutputStream(file);
+    try {
+      stream.write(content);
+    } finally {
+      stream.close();
+    }
+  }
 }
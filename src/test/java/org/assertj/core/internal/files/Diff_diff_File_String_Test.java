@@ -36,6 +36,7 @@ import org.junit.rules.TemporaryFolder;
  * @author Olivier Michallat
  */
 public class Diff_diff_File_String_Test {
+  private static final String LINE_SEPARATOR = System.getProperty("line.separator");
   private static final Charset UTF8 = Charset.forName("UTF-8");
   private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
 
@@ -94,4 +95,23 @@ public class Diff_diff_File_String_Test {
     assertEquals(1, diffs.size());
     assertEquals("line:<1>, expected:<EOF> but was:<line_1>", diffs.get(0));
   }
+
+  @Test
+  public void should_return_empty_diff_list_if_file_has_string_bytes_in_given_charset() throws IOException {
+    writer.write(actual, UTF8, "Touché", "Mañana");
+    String expected = "Touché" + LINE_SEPARATOR + "Mañana" + LINE_SEPARATOR;
+    List<String> diffs = diff.diff(actual, expected, UTF8);
+    assertEquals(0, diffs.size());
+  }
+
+  @Test
+  public void should_return_diffs_if_string_cannot_be_encoded_with_given_charset() throws IOException {
+    Charset ascii = Charset.forName("US-ASCII");
+    writer.write(actual, ascii, "Touch?");
+    // encoding with replacement would turn expected into actual bytes
+    String expected = "Touché" + LINE_SEPARATOR;
+    List<String> diffs = diff.diff(actual, expected, ascii);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<0>, expected:<Touché> but was:<Touch?>", diffs.get(0));
+  }
 }
@@ -18,6 +18,7 @@ import static junit.framework.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -82,6 +83,27 @@ public class BinaryDiff_diff_InputStream_Test {
     assertEquals("EOF", result.expected);
   }
 
+  @Test
+  public void should_return_diff_if_inputstreams_read_in_blocks_of_different_sizes_differ() throws IOException {
+    byte[] content = new byte[20000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    actual = new ByteArrayInputStream(content.clone());
+    content[17001] = (byte) 0xFF;
+    expected = new FilterInputStream(new ByteArrayInputStream(content)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        // reads at most 7 bytes at a time
+        return super.read(b, off, Math.min(len, 7));
+      }
+    };
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(17001, result.offset);
+    assertEquals("0xFF", result.expected);
+    assertEquals("0x" + Integer.toHexString(17001 % 251).toUpperCase(), result.actual);
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -15,6 +15,7 @@
 package org.assertj.core.internal.inputstreams;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -22,6 +23,7 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
 
+import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.Diff;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -80,6 +82,15 @@ public class Diff_diff_InputStream_Test {
     assertEquals("line:<2>, expected:<line_1> but was:<EOF>", diffs.get(0));
   }
 
+  @Test
+  public void should_only_report_first_line_past_end_of_shorter_content() throws IOException {
+    actual = stream("base", "line_0", "line_1", "line_2", "line_3");
+    expected = stream("base", "line_0");
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<2>, expected:<EOF> but was:<line_1>", diffs.get(0));
+  }
+
   @Test
   public void should_return_diffs_if_content_of_actual_is_longer_than_content_of_expected() throws IOException {
     actual = stream("base", "line_0", "line_1");
@@ -88,4 +99,130 @@ public class Diff_diff_InputStream_Test {
     assertEquals(1, diffs.size());
     assertEquals("line:<2>, expected:<EOF> but was:<line_1>", diffs.get(0));
   }
+
+  @Test
+  public void should_report_line_inserted_at_the_beginning_of_actual_once() throws IOException {
+    String[] lines = lines(2000);
+    String[] actualLines = new String[lines.length + 1];
+    actualLines[0] = "inserted";
+    System.arraycopy(lines, 0, actualLines, 1, lines.length);
+    List<String> diffs = diff.diff(stream(actualLines), stream(lines));
+    assertEquals(1, diffs.size());
+    assertEquals("line:<0>, unexpected:<inserted>", diffs.get(0));
+  }
+
+  @Test
+  public void should_report_missing_and_changed_lines_far_apart() throws IOException {
+    String[] lines = lines(2000);
+    String[] actualLines = new String[lines.length - 1];
+    System.arraycopy(lines, 0, actualLines, 0, 1000);
+    System.arraycopy(lines, 1001, actualLines, 1000, lines.length - 1001);
+    actualLines[1499] = "changed";
+    List<String> diffs = diff.diff(stream(actualLines), stream(lines));
+    assertEquals(2, diffs.size());
+    assertEquals("line:<1000>, missing:<line1000>", diffs.get(0));
+    assertEquals("line:<1499>, expected:<line1500> but was:<changed>", diffs.get(1));
+  }
+
+  @Test
+  public void should_only_report_maximum_number_of_differences() throws IOException {
+    actual = stream("a0", "a1", "a2", "a3", "a4");
+    expected = stream("e0", "e1", "e2", "e3", "e4");
+    List<String> diffs = new Diff(2).diff(actual, expected);
+    assertEquals(3, diffs.size());
+    assertEquals("line:<0>, expected:<e0> but was:<a0>", diffs.get(0));
+    assertEquals("line:<1>, expected:<e1> but was:<a1>", diffs.get(1));
+    assertEquals("<3> more differences not shown", diffs.get(2));
+  }
+
+  @Test
+  public void should_only_report_globally_set_maximum_number_of_differences() throws IOException {
+    actual = stream("a0", "a1", "a2", "a3", "a4");
+    expected = stream("e0", "e1", "e2", "e3", "e4");
+    Assertions.setMaxReportedContentDifferences(1);
+    try {
+      List<String> diffs = diff.diff(actual, expected);
+      assertEquals(2, diffs.size());
+      assertEquals("line:<0>, expected:<e0> but was:<a0>", diffs.get(0));
+      assertEquals("<4> more differences not shown", diffs.get(1));
+    } finally {
+      Assertions.setMaxReportedContentDifferences(100);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_if_globally_set_maximum_number_of_differences_is_not_positive() {
+    Assertions.setMaxReportedContentDifferences(0);
+  }
+
+  @Test
+  public void should_return_diffs_with_line_numbers_after_long_common_content() throws IOException {
+    String[] lines = lines(5000);
+    String[] actualLines = lines.clone();
+    actualLines[4000] = "line4000 changed";
+    List<String> diffs = diff.diff(stream(actualLines), stream(lines));
+    assertEquals(1, diffs.size());
+    assertEquals("line:<4000>, expected:<line4000> but was:<line4000 changed>", diffs.get(0));
+  }
+
+  @Test
+  public void should_return_empty_diff_list_if_inputstreams_only_differ_on_line_terminators() throws IOException {
+    actual = new ByteArrayInputStream("base\r\nline0\rline1\n".getBytes("ASCII"));
+    expected = new ByteArrayInputStream("base\nline0\nline1\r\n".getBytes("ASCII"));
+    assertEquals(0, diff.diff(actual, expected).size());
+  }
+
+  @Test
+  public void should_count_lines_ended_by_carriage_returns_before_first_difference() throws IOException {
+    actual = new ByteArrayInputStream("line0\rline1\r\nline2\rline3\nline_4\n".getBytes("ASCII"));
+    expected = new ByteArrayInputStream("line0\rline1\r\nline2\rline3\nline4\n".getBytes("ASCII"));
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<4>, expected:<line4> but was:<line_4>", diffs.get(0));
+  }
+
+  @Test
+  public void should_close_streams_if_they_have_equal_content() throws IOException {
+    ClosingStream actualStream = new ClosingStream("base");
+    ClosingStream expectedStream = new ClosingStream("base");
+    assertEquals(0, diff.diff(actualStream, expectedStream).size());
+    assertTrue(actualStream.closed);
+    assertTrue(expectedStream.closed);
+  }
+
+  @Test
+  public void should_return_diffs_in_lines_longer_than_skipped_line_start() throws IOException {
+    StringBuilder longLine = new StringBuilder();
+    for (int i = 0; longLine.length() < 3 * 1024 * 1024; i++) {
+      longLine.append(i);
+    }
+    String expectedLine = longLine.toString();
+    String actualLine = expectedLine.substring(0, expectedLine.length() - 1) + "_";
+    assertEquals(0, diff.diff(stream("base", expectedLine, "end"), stream("base", expectedLine, "end")).size());
+    List<String> diffs = diff.diff(stream("base", actualLine, "end"), stream("base", expectedLine, "end"));
+    assertEquals(1, diffs.size());
+    assertEquals("line:<1>, expected:<" + expectedLine + "> but was:<" + actualLine + ">", diffs.get(0));
+  }
+
+  private static class ClosingStream extends ByteArrayInputStream {
+    private boolean closed;
+
+    ClosingStream(String content) {
+      super(content.getBytes());
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+
+  private static String[] lines(int count) {
+    String[] lines = new String[count];
+    for (int i = 0; i < count; i++) {
+      lines[i] = "line" + i;
+    }
+    return lines;
+  }
 }
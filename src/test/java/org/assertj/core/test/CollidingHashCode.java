@@ -0,0 +1,42 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.test;
+
+/**
+ * Value whose instances all share the same hash code, to test lookups relying on hashing when hash codes collide.
+ */
+public class CollidingHashCode {
+
+  private final int value;
+
+  public CollidingHashCode(int value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof CollidingHashCode && ((CollidingHashCode) obj).value == value;
+  }
+
+  @Override
+  public int hashCode() {
+    return 42;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[value=%s]", getClass().getSimpleName(), value);
+  }
+}
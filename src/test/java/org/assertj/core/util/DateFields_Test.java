@@ -0,0 +1,102 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.util.DateFields.localTimeOf;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link DateFields}</code>, checked against {@link Calendar}.
+ */
+public class DateFields_Test {
+
+  private static final String[] TIME_ZONES = { "UTC", "Europe/Paris", "America/New_York", "Australia/Lord_Howe",
+      "Asia/Kathmandu", "Pacific/Apia", "America/Sao_Paulo" };
+
+  private TimeZone defaultTimeZone;
+
+  @Before
+  public void setUp() {
+    defaultTimeZone = TimeZone.getDefault();
+  }
+
+  @After
+  public void tearDown() {
+    TimeZone.setDefault(defaultTimeZone);
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar() {
+    Random random = new Random(42);
+    for (String timeZone : TIME_ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+      for (int i = 0; i < 2000; i++) {
+        // between year -3000 and 5000
+        checkFields(new Date(-156000000000000L + (long) (random.nextDouble() * 252000000000000L)));
+      }
+      // every 20 minutes of 2014, covering daylight saving time changes
+      for (long time = 1388534400000L; time < 1420070400000L; time += 20 * 60 * 1000) {
+        checkFields(new Date(time));
+      }
+    }
+  }
+
+  @Test
+  public void should_switch_from_julian_to_gregorian_calendar_as_calendar_does() {
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    Date lastJulianDay = new Date(-12219292800000L - 1);
+    Date firstGregorianDay = new Date(-12219292800000L);
+    assertEquals(4, DateFields.dayOfMonthOf(localTimeOf(lastJulianDay)));
+    assertEquals(15, DateFields.dayOfMonthOf(localTimeOf(firstGregorianDay)));
+    checkFields(lastJulianDay);
+    checkFields(firstGregorianDay);
+  }
+
+  @Test
+  public void should_use_default_time_zone_once_it_has_changed() {
+    Date date = new Date(1388534400000L);
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    assertEquals(date.getTime(), localTimeOf(date));
+    TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+    assertEquals(date.getTime() + DateFields.MILLIS_PER_HOUR, localTimeOf(date));
+    TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kathmandu"));
+    assertEquals(date.getTime() + 5 * DateFields.MILLIS_PER_HOUR + 45 * DateFields.MILLIS_PER_MINUTE,
+                 localTimeOf(date));
+  }
+
+  private static void checkFields(Date date) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    long localTime = localTimeOf(date);
+    String message = date.getTime() + " in " + TimeZone.getDefault().getID();
+    assertEquals(message, calendar.get(Calendar.YEAR), DateFields.yearOf(localTime));
+    assertEquals(message, calendar.get(Calendar.MONTH) + 1, DateFields.monthOf(localTime));
+    assertEquals(message, calendar.get(Calendar.DAY_OF_MONTH), DateFields.dayOfMonthOf(localTime));
+    assertEquals(message, calendar.get(Calendar.DAY_OF_WEEK), DateFields.dayOfWeekOf(localTime));
+    assertEquals(message, calendar.get(Calendar.HOUR_OF_DAY), DateFields.hourOfDayOf(localTime));
+    assertEquals(message, calendar.get(Calendar.MINUTE), DateFields.minuteOf(localTime));
+    assertEquals(message, calendar.get(Calendar.SECOND), DateFields.secondOf(localTime));
+    assertEquals(message, calendar.get(Calendar.MILLISECOND), DateFields.millisecondOf(localTime));
+  }
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.*;
 import static org.junit.rules.ExpectedException.none;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -52,4 +53,29 @@ public class Dates_parse_date_time_Test {
     assertNull(parseDatetime("invalid date format"));
   }
 
+  @Test
+  public void should_parse_and_format_from_several_threads() throws Exception {
+    final AtomicReference<String> failure = new AtomicReference<String>();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final int year = 1990 + t;
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          for (int i = 0; i < 1000; i++) {
+            String dateAsString = String.format("%d-%02d-%02dT%02d:%02d:00", year, i % 12 + 1, i % 28 + 1, i % 24,
+                                                i % 60);
+            String formatted = formatAsDatetime(parseDatetime(dateAsString));
+            if (!dateAsString.equals(formatted)) failure.compareAndSet(null, dateAsString + " became " + formatted);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertNull(failure.get());
+  }
+
 }
@@ -14,6 +14,9 @@
  */
 package org.assertj.core.util;
 
+import static org.assertj.core.util.Arrays.array;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -36,6 +39,41 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_remove_reflective_constructor_call_made_by_assertj() {
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("java.lang.reflect.Constructor", "newInstance"),
+                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                  element("org.assertj.core.error.ConstructorInvoker", "newInstance"),
+                                  element("org.assertj.core.error.ShouldBeEqual", "newAssertionError"),
+                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                  element("examples.StackTraceFilterExample", "main")));
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertArrayEquals(array(element("java.lang.reflect.Constructor", "newInstance"),
+                            element("java.lang.reflect.Constructor", "newInstance"),
+                            element("examples.StackTraceFilterExample", "main")), throwable.getStackTrace());
+  }
+
+  @Test
+  public void should_keep_order_of_remaining_elements_of_deep_stack_trace() {
+    StackTraceElement[] stackTrace = new StackTraceElement[500];
+    for (int i = 0; i < stackTrace.length; i++) {
+      stackTrace[i] = element(i % 2 == 0 ? "org.assertj.core.api.Assert" + i : "com.example.Framework" + i, "call");
+    }
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(stackTrace);
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    StackTraceElement[] filtered = throwable.getStackTrace();
+    assertEquals(250, filtered.length);
+    for (int i = 0; i < filtered.length; i++) {
+      assertEquals("com.example.Framework" + (2 * i + 1), filtered[i].getClassName());
+    }
+  }
+
+  private static StackTraceElement element(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
   private static boolean hasStackTraceElementContainingAssertJClass(AssertJThrowable throwable) {
     StackTraceElement[] stackTrace = throwable.getStackTrace();
     for (StackTraceElement stackTraceElement : stackTrace) {
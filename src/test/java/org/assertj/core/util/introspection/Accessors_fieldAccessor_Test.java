@@ -0,0 +1,70 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.introspection.Accessors.fieldAccessor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Accessors#fieldAccessor(String, Class)}</code>.
+ */
+public class Accessors_fieldAccessor_Test {
+
+  @Test
+  public void should_return_accessor_reading_given_public_field() throws Exception {
+    FieldAccessor accessor = fieldAccessor("id", Employee.class);
+    assertEquals("id", accessor.getName());
+    assertTrue(accessor.isPublic());
+    assertEquals(1L, accessor.valueOf(new Employee(1L, new Name("Yoda"), 800)));
+  }
+
+  @Test
+  public void should_return_accessor_reading_given_private_field() throws Exception {
+    FieldAccessor accessor = fieldAccessor("age", Employee.class);
+    assertFalse(accessor.isPublic());
+    assertEquals(800, accessor.valueOf(new Employee(1L, new Name("Yoda"), 800)));
+  }
+
+  @Test
+  public void should_return_accessor_reading_inherited_field() throws Exception {
+    FieldAccessor accessor = fieldAccessor("id", Manager.class);
+    assertEquals(2L, accessor.valueOf(new Manager(2L)));
+  }
+
+  @Test
+  public void should_resolve_field_only_once_per_class() {
+    assertSame(fieldAccessor("id", Employee.class), fieldAccessor("id", Employee.class));
+  }
+
+  @Test
+  public void should_return_null_if_field_does_not_exist() {
+    assertNull(fieldAccessor("salary", Employee.class));
+    assertNull(fieldAccessor("salary", Employee.class));
+  }
+
+  private static class Manager extends Employee {
+    Manager(long id) {
+      super(id, new Name("Mace"), 50);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Created on Apr 26, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.test.ExpectedException.none;
+import static org.assertj.core.util.introspection.Accessors.methodAccessor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Person;
+import org.assertj.core.util.introspection.MethodSupport_methodResultFor_Test.SuperHero;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Accessors#methodAccessor(String, Class)}</code>.
+ */
+public class Accessors_methodAccessor_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_return_accessor_invoking_given_method() throws Exception {
+    Person joker = new Person("Joker");
+    MethodAccessor accessor = methodAccessor("archenemy", SuperHero.class);
+    assertEquals("archenemy", accessor.getName());
+    assertSame(joker, accessor.valueOf(new SuperHero("Batman", new Person("Bruce Wayne"), joker)));
+  }
+
+  @Test
+  public void should_resolve_method_only_once_per_class() {
+    assertSame(methodAccessor("archenemy", SuperHero.class), methodAccessor("archenemy", SuperHero.class));
+  }
+
+  @Test
+  public void should_fail_if_method_does_not_return_value() {
+    thrown.expectIllegalArgumentException("Method 'saveTheDay' in class SuperHero.class has to return a value!");
+    methodAccessor("saveTheDay", SuperHero.class);
+  }
+}
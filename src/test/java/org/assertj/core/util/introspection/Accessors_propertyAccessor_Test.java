@@ -0,0 +1,65 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.test.ExpectedException.none;
+import static org.assertj.core.util.introspection.Accessors.propertyAccessor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Name;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Accessors#propertyAccessor(String, Class)}</code>.
+ */
+public class Accessors_propertyAccessor_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_return_accessor_reading_given_property() throws Exception {
+    PropertyAccessor accessor = propertyAccessor("age", Employee.class);
+    assertEquals("age", accessor.getName());
+    assertEquals(800, accessor.valueOf(new Employee(1L, new Name("Yoda"), 800)));
+  }
+
+  @Test
+  public void should_return_accessor_reading_property_not_backed_by_a_field() throws Exception {
+    assertEquals(true, propertyAccessor("adult", Employee.class).valueOf(new Employee(1L, new Name("Yoda"), 800)));
+  }
+
+  @Test
+  public void should_resolve_property_only_once_per_class() {
+    assertSame(propertyAccessor("age", Employee.class), propertyAccessor("age", Employee.class));
+  }
+
+  @Test
+  public void should_fail_every_time_if_property_does_not_exist() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        propertyAccessor("salary", Employee.class);
+      } catch (IntrospectionError e) {
+        assertEquals("No getter for property 'salary' in org.assertj.core.test.Employee", e.getMessage());
+        continue;
+      }
+      throw new AssertionError("expecting an IntrospectionError to be thrown");
+    }
+  }
+}
@@ -194,4 +194,76 @@ public class XPathExtractor_extract_Test {
     assertThat(secondLevel.getLength()).isEqualTo(1);
   }
   
+  @Test
+  public void should_extract_nodes_of_queried_document_without_copying_them() throws Exception {
+    
+    Node document = XmlUtil.toXml("<person><first-name>John</first-name><last-name>Doe</last-name></person>");
+    
+    NodeList extracted = new XPathExtractor(XmlUtil.nodeList(document)).extract("/person/*");
+    
+    assertThat(extracted.item(0).getParentNode()).isSameAs(document);
+    assertThat(extracted.item(1).getParentNode()).isSameAs(document);
+    assertThat(extracted.item(2)).isNull();
+  }
+
+  @Test
+  public void should_chain_extract_relative_nodes_without_copying_them() throws Exception {
+    
+    Node document = XmlUtil.toXml("<person><name first='John'/><name first='Jane'/></person>");
+    
+    NodeList names = new XPathExtractor(XmlUtil.nodeList(document)).extract("/person/name");
+    NodeList firstNames = new XPathExtractor(names).extract("@first");
+    
+    assertThat(firstNames.getLength()).isEqualTo(2);
+    assertThat(firstNames.item(0).getOwnerDocument()).isSameAs(document.getOwnerDocument());
+    assertThat(firstNames.item(1).getNodeValue()).isEqualTo("Jane");
+  }
+
+  @Test
+  public void should_chain_extract_absolute_path_from_nested_element() throws Exception {
+    
+    XPathExtractor extractor = new XPathExtractor("<document><element><element/></element></document>");
+    
+    NodeList firstLevel = extractor.extract("//element");
+    NodeList secondLevel = new XPathExtractor(firstLevel).extract("/element");
+    
+    assertThat(firstLevel.getLength()).isEqualTo(2);
+    assertThat(secondLevel.getLength()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_chain_extract_parent_of_attribute_as_detached_node() throws Exception {
+    
+    XPathExtractor extractor = new XPathExtractor("<person><name first='John'/></person>");
+    
+    NodeList attributes = extractor.extract("/person/name/@first");
+    
+    assertThat(new XPathExtractor(attributes).extract("..").getLength()).isEqualTo(0);
+    assertThat(new XPathExtractor(attributes).extract("ancestor::*").getLength()).isEqualTo(0);
+    assertThat(new XPathExtractor(attributes).extract("/person").getLength()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_chain_extract_text_of_attribute() throws Exception {
+    
+    XPathExtractor extractor = new XPathExtractor("<person><name first='John'/></person>");
+    
+    NodeList attributes = extractor.extract("/person/name/@first");
+    
+    assertThat(new XPathExtractor(attributes).extract("self::node()").item(0).getNodeValue()).isEqualTo("John");
+    assertThat(new XPathExtractor(attributes).extract("@first").getLength()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_not_let_functions_read_outside_of_chained_element() throws Exception {
+    
+    XPathExtractor extractor = new XPathExtractor("<!DOCTYPE document [<!ATTLIST name key ID #IMPLIED>]>"
+        + "<document><person><name key='john'/></person><person><name key='jane'/></person></document>");
+    
+    NodeList persons = extractor.extract("/document/person");
+    
+    assertThat(extractor.extract("id('jane')").getLength()).isEqualTo(1);
+    assertThat(new XPathExtractor(persons).extract("id('jane')").getLength()).isEqualTo(0);
+  }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests for <code>{@link XPathStreamExtractor#extract(String)}</code>.
+ */
+public class XPathStreamExtractor_extract_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private final String xml = "<?xml version='1.0'?>"
+                             + "<!-- movies -->"
+                             + "<movies xmlns:imdb='http://www.imdb.com'>"
+                             + "  <movie title='Pulp Fiction' year='1994' imdb:rating='8.9'>"
+                             + "    <director>Quentin Tarantino</director>"
+                             + "    <!-- best one -->"
+                             + "  </movie>"
+                             + "  <movie title='Fight Club' year='1999'>"
+                             + "    <director>David <![CDATA[Fincher]]></director>"
+                             + "    <movie title='Fight Club (director cut)'/>"
+                             + "  </movie>"
+                             + "</movies>";
+
+  @Test
+  public void should_extract_same_nodes_as_dom_extraction() throws Exception {
+    String[] xpaths = { "/movies", "/movies/movie", "//movie", "/*/*/director", "//director/text()", "//@title",
+        "/movies//@year", "/movies/movie/@*", "//comment()", "/comment()", "/movies/movie/comment()",
+        "//movie[@year='1994']/director", "//movie[@year][@title=\"Fight Club\"]",
+        "/movies//text()", "/movies/*/*" };
+    for (String xpath : xpaths) {
+      NodeList domExtraction = new XPathExtractor(xml).extract(xpath);
+      NodeList streamedExtraction = new XPathStreamExtractor(xml).extract(xpath);
+      assertThat(streamedExtraction.getLength()).as(xpath).isEqualTo(domExtraction.getLength());
+      for (int i = 0; i < domExtraction.getLength(); i++) {
+        assertThat(streamedExtraction.item(i).isEqualNode(domExtraction.item(i))).as(xpath + " #" + i).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void should_make_outermost_extracted_elements_root_of_their_own_document() throws Exception {
+    NodeList extracted = new XPathStreamExtractor(xml).extract("//movie");
+
+    assertThat(extracted.getLength()).isEqualTo(3);
+    assertThat(extracted.item(0).getParentNode().getNodeType()).isEqualTo(Node.DOCUMENT_NODE);
+    assertThat(extracted.item(1).getParentNode().getNodeType()).isEqualTo(Node.DOCUMENT_NODE);
+    // nested movie is only copied once, as part of the second one
+    assertThat(extracted.item(2).getParentNode()).isSameAs(extracted.item(1));
+  }
+
+  @Test
+  public void should_chain_queries_on_nested_elements_as_dom_extraction() throws Exception {
+    NodeList streamedMovies = new XPathStreamExtractor(xml).extract("//movie");
+    NodeList domMovies = new XPathExtractor(xml).extract("//movie");
+    
+    NodeList streamedExtraction = new XPathExtractor(streamedMovies).extract("/movie/@title");
+    NodeList domExtraction = new XPathExtractor(domMovies).extract("/movie/@title");
+    
+    assertThat(streamedExtraction.getLength()).isEqualTo(3).isEqualTo(domExtraction.getLength());
+    for (int i = 0; i < domExtraction.getLength(); i++) {
+      assertThat(streamedExtraction.item(i).isEqualNode(domExtraction.item(i))).as("#" + i).isTrue();
+    }
+  }
+
+  @Test
+  public void should_describe_xml_without_quoting_all_of_it() throws Exception {
+    StringBuilder movies = new StringBuilder("<movies>");
+    for (int i = 0; i < 100; i++) {
+      movies.append("<movie/>");
+    }
+    movies.append("</movies>");
+
+    assertThat(new XPathStreamExtractor("<movies/>").toString()).isEqualTo("xml:<\"<movies/>\">");
+    assertThat(new XPathStreamExtractor(movies).toString())
+        .isEqualTo("xml:<\"<movies><movie/><movie/><movie/><movie/><movie/><movie/><movie/><movie/><movie/>...\">"
+                   + " (817 characters)");
+  }
+
+  @Test
+  public void should_fail_if_xpath_is_relative() throws Exception {
+    thrown.expectIllegalArgumentException("Unsupported xpath for streamed xml:<\"movie\">");
+    new XPathStreamExtractor(xml).extract("movie");
+  }
+
+  @Test
+  public void should_fail_if_xpath_selects_nodes_under_attributes() throws Exception {
+    thrown.expectIllegalArgumentException("Unsupported xpath for streamed xml:<\"//@title/text()\">");
+    new XPathStreamExtractor(xml).extract("//@title/text()");
+  }
+
+  @Test
+  public void should_fail_if_xpath_uses_positional_predicate() throws Exception {
+    thrown.expectIllegalArgumentException("Unsupported xpath for streamed xml:<\"//movie[2]\">");
+    new XPathStreamExtractor(xml).extract("//movie[2]");
+  }
+
+  @Test
+  public void should_fail_if_xpath_uses_functions() throws Exception {
+    thrown.expectIllegalArgumentException("Unsupported xpath for streamed xml:<\"count(//movie)\">");
+    new XPathStreamExtractor(xml).extract("count(//movie)");
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.xpath.XPathExpression;
+
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link XmlFactories}</code>.
+ */
+public class XmlFactories_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void should_reuse_compiled_xpath_expression_in_the_same_thread() {
+    XPathExpression expression = XmlFactories.compile("/movies/movie");
+    assertThat(XmlFactories.compile("/movies/movie")).isSameAs(expression);
+    assertThat(XmlFactories.compile("/movies")).isNotSameAs(expression);
+  }
+
+  @Test
+  public void should_reuse_document_builder_in_the_same_thread_only() throws Exception {
+    final DocumentBuilder documentBuilder = XmlFactories.documentBuilder();
+    assertThat(XmlFactories.documentBuilder()).isSameAs(documentBuilder);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      DocumentBuilder otherThreadBuilder = executor.submit(new Callable<DocumentBuilder>() {
+        @Override
+        public DocumentBuilder call() {
+          return XmlFactories.documentBuilder();
+        }
+      }).get();
+      assertThat(otherThreadBuilder).isNotSameAs(documentBuilder);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void should_fail_if_xpath_expression_is_invalid() {
+    thrown.expectIllegalArgumentException("Invalid xpath:<\"/movies[\">");
+    XmlFactories.compile("/movies[");
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Created on Apr 19, 2014
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.w3c.dom.Node;
+
+/**
+ * Tests for <code>{@link XmlUtil#structuralHashCode(Node)}</code>.
+ */
+public class XmlUtil_structuralHashCode_Test {
+
+  @Test
+  public void should_be_equal_for_equal_nodes() throws Exception {
+
+    Node node1 = XmlUtil.parseNode("<row id='1' name='Luke'> <c>abc</c><!-- jedi --></row>");
+    Node node2 = XmlUtil.parseNode("<row name='Luke' id='1'><c>abc</c> <!-- jedi --></row>");
+
+    assertThat(XmlUtil.areEqual(node1, node2)).isTrue();
+    assertThat(XmlUtil.structuralHashCode(node1)).isEqualTo(XmlUtil.structuralHashCode(node2));
+  }
+
+  @Test
+  public void should_be_equal_for_equal_attributes_and_texts() throws Exception {
+
+    assertThat(XmlUtil.structuralHashCode(XmlUtil.parseNode("@id='1'")))
+        .isEqualTo(XmlUtil.structuralHashCode(XmlUtil.parseNode("@id=\"1\"")));
+    assertThat(XmlUtil.structuralHashCode(XmlUtil.parseNode("abc")))
+        .isEqualTo(XmlUtil.structuralHashCode(XmlUtil.parseNode(" abc ")));
+  }
+
+  @Test
+  public void should_depend_on_children_order() throws Exception {
+
+    Node node1 = XmlUtil.parseNode("<row><a/><b/></row>");
+    Node node2 = XmlUtil.parseNode("<row><b/><a/></row>");
+
+    assertThat(XmlUtil.structuralHashCode(node1)).isNotEqualTo(XmlUtil.structuralHashCode(node2));
+  }
+
+  @Test
+  public void should_depend_on_attribute_values() throws Exception {
+
+    Node node1 = XmlUtil.parseNode("<row id='1'/>");
+    Node node2 = XmlUtil.parseNode("<row id='2'/>");
+
+    assertThat(XmlUtil.structuralHashCode(node1)).isNotEqualTo(XmlUtil.structuralHashCode(node2));
+  }
+
+  @Test
+  public void should_be_zero_for_null() throws Exception {
+    assertThat(XmlUtil.structuralHashCode(null)).isEqualTo(0);
+  }
+}